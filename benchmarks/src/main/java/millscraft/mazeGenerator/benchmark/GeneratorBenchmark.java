@@ -0,0 +1,43 @@
+package millscraft.mazeGenerator.benchmark;
+
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.generator.*;
+import millscraft.mazeGenerator.random.RandomSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each generator on square grids. Every invocation carves a fresh grid
+ * from the same seed so runs are comparable between releases.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+	private static final long SEED = 42;
+
+	@Param({"BinaryTree", "Sidewinder", "AldousBroder", "Wilson", "HuntAndKill", "AldousBroderWilson", "Eller", "GrowingTree"})
+	public String algorithm;
+
+	@Param({"10", "100", "500"})
+	public int size;
+
+	private GeneratorAlgorithm generator;
+
+	@Setup
+	public void setUp() {
+		generator = Generators.create(algorithm);
+	}
+
+	@Benchmark
+	public Grid prepareMaze() {
+		return generator.prepareMaze(new Grid(size, size, RandomSource.seeded(SEED)));
+	}
+}
@@ -0,0 +1,38 @@
+package millscraft.mazeGenerator.benchmark;
+
+import millscraft.mazeGenerator.generator.*;
+
+/**
+ * Looks up generators by the names used in benchmark parameters
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class Generators {
+
+	private Generators() {
+	}
+
+	static GeneratorAlgorithm create(String name) {
+		switch (name) {
+			case "BinaryTree":
+				return new BinaryTree();
+			case "Sidewinder":
+				return new Sidewinder();
+			case "AldousBroder":
+				return new AldousBroder();
+			case "Wilson":
+				return new Wilson();
+			case "HuntAndKill":
+				return new HuntAndKill();
+			case "AldousBroderWilson":
+				return new AldousBroderWilson();
+			case "Eller":
+				return new Eller();
+			case "GrowingTree":
+				return new GrowingTree();
+			default:
+				throw new IllegalArgumentException("Unknown generator " + name);
+		}
+	}
+}
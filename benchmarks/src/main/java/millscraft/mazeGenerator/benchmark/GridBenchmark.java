@@ -0,0 +1,30 @@
+package millscraft.mazeGenerator.benchmark;
+
+import millscraft.mazeGenerator.Grid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building an empty grid. Grids no longer create cells or wire up their
+ * neighbors, this measures allocating and clearing the passage and visited bits.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GridBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	@Benchmark
+	public Grid createGrid() {
+		return new Grid(size, size);
+	}
+}
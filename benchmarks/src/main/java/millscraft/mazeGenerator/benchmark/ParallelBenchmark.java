@@ -0,0 +1,84 @@
+package millscraft.mazeGenerator.benchmark;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.generator.BinaryTree;
+import millscraft.mazeGenerator.generator.GeneratorAlgorithm;
+import millscraft.mazeGenerator.generator.Sidewinder;
+import millscraft.mazeGenerator.generator.Wilson;
+import millscraft.mazeGenerator.random.RandomSource;
+import millscraft.mazeGenerator.render.RasterRendererImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the parallel modes with the number of pool threads, a thread count of 0
+ * runs without a pool. Only meaningful on a machine with at least as many cores as the
+ * largest thread count.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+	private static final long SEED = 42;
+
+	@Param({"0", "1", "2", "4", "8"})
+	public int threads;
+
+	@Param({"2000"})
+	public int size;
+
+	//Poster geometry, 4 pixels per cell so a 2000x2000 maze is an 8009x8009 image
+	@Param({"2000"})
+	public int renderSize;
+
+	private ForkJoinPool pool;
+	private GeneratorAlgorithm binaryTree;
+	private GeneratorAlgorithm sidewinder;
+	private Grid grid;
+	private RasterRendererImpl rasterRenderer;
+	private Grid renderMaze;
+
+	@Setup
+	public void setUp() {
+		pool = threads > 0 ? new ForkJoinPool(threads) : null;
+		binaryTree = new BinaryTree(pool);
+		sidewinder = new Sidewinder(pool);
+		grid = new Grid(size, size, RandomSource.seeded(SEED));
+		rasterRenderer = new RasterRendererImpl(3, 4, 1, null, null, pool);
+		renderMaze = new Wilson().prepareMaze(new Grid(renderSize, renderSize, RandomSource.seeded(SEED)));
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public Grid binaryTree() {
+		grid.reset(RandomSource.seeded(SEED));
+		return binaryTree.prepareMaze(grid);
+	}
+
+	@Benchmark
+	public Grid sidewinder() {
+		grid.reset(RandomSource.seeded(SEED));
+		return sidewinder.prepareMaze(grid);
+	}
+
+	@Benchmark
+	public BufferedImage rasterRenderer() {
+		return rasterRenderer.render(renderMaze, Direction.NORTH, Direction.SOUTH);
+	}
+}
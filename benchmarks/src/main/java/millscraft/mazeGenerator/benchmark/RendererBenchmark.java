@@ -0,0 +1,61 @@
+package millscraft.mazeGenerator.benchmark;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.generator.Wilson;
+import millscraft.mazeGenerator.random.RandomSource;
+import millscraft.mazeGenerator.render.ByteArrayRendererImpl;
+import millscraft.mazeGenerator.render.ImageRendererImpl;
+import millscraft.mazeGenerator.render.RasterRendererImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of rendering one maze with the default sizes and colors.
+ * {@link ImageRendererImpl} includes writing testMaze.png to the working directory.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RendererBenchmark {
+
+	@Param({"10", "100", "300"})
+	public int size;
+
+	private Grid maze;
+	private ImageRendererImpl imageRenderer;
+	private RasterRendererImpl rasterRenderer;
+	private ByteArrayRendererImpl byteArrayRenderer;
+
+	@Setup
+	public void setUp() {
+		maze = new Wilson().prepareMaze(new Grid(size, size, RandomSource.seeded(42)));
+		imageRenderer = new ImageRendererImpl(null, null, null, null, null);
+		rasterRenderer = new RasterRendererImpl(null, null, null, null, null);
+		byteArrayRenderer = new ByteArrayRendererImpl(null, null, null, null, null);
+	}
+
+	@Benchmark
+	public File imageRenderer() {
+		return imageRenderer.render(maze, Direction.NORTH, Direction.SOUTH);
+	}
+
+	@Benchmark
+	public BufferedImage rasterRenderer() {
+		return rasterRenderer.render(maze, Direction.NORTH, Direction.SOUTH);
+	}
+
+	@Benchmark
+	public byte[] byteArrayRenderer() {
+		return byteArrayRenderer.render(maze, Direction.NORTH, Direction.SOUTH);
+	}
+}
@@ -1,35 +1,30 @@
 package millscraft.mazeGenerator;
 
 import millscraft.mazeGenerator.exception.CellLinkException;
+import millscraft.mazeGenerator.random.RandomSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
+ * A view of a single square in a {@link Grid}. Cells hold no maze state of their
+ * own, links and visited flags are read from and written to the grid.
+ * Two cells are equal when they view the same square of the same grid.
+ *
  * @author Grant Mills
  * @since 3/2/18
  */
 public class Cell {
 	private static final Logger logger = LoggerFactory.getLogger(Cell.class);
+	private static final Direction[] DIRECTIONS = Direction.values();
 
-	private Integer row;
-	private Integer column;
-	private Set<Cell> linkedCells;
-	private Cell north;
-	private Cell south;
-	private Cell east;
-	private Cell west;
-	private EnumMap<Direction, Cell> neighbors;
-	private Boolean visited = false;
+	private final Grid grid;
+	private final int index;
 
-	public Cell(Integer row, Integer column) {
-		this.row = row;
-		this.column = column;
-		this.linkedCells = new HashSet<>();
-
-		this.neighbors = new EnumMap<>(Direction.class);
+	Cell(Grid grid, int index) {
+		this.grid = grid;
+		this.index = index;
 	}
 
 	/**
@@ -43,7 +38,8 @@ public class Cell {
 
 	/**
 	 * Linked cells are ones that share a passage
-	 * Links two cells, bidirectionally is the flag is true
+	 * Links two cells. The grid stores a single passage between neighbors so
+	 * links are always bidirectional, the flag is kept for compatibility.
 	 *
 	 * @param cellToBeLinked  - a maze cell
 	 * @param isBiDirectional - boolean
@@ -52,16 +48,9 @@ public class Cell {
 
 		if (null != cellToBeLinked) {
 			//Only neighboring cells can be linked
-			if (this.getNeighbors().containsValue(cellToBeLinked)) {
-				this.linkedCells.add(cellToBeLinked);
-
-				if (isBiDirectional) {
-					Set<Cell> currentlyLinked = cellToBeLinked.getLinkedCells();
-					if (!currentlyLinked.contains(this)) {
-						currentlyLinked.add(this);
-						cellToBeLinked.setLinkedCells(currentlyLinked);
-					}
-				}
+			Direction direction = directionTo(cellToBeLinked);
+			if (direction != null) {
+				grid.link(index, direction);
 			} else {
 				throw new CellLinkException("Cells cannot be linked. Cell 1 is at row:" + this.getRow() + " col:" + this.getColumn() + ". Cell 2 is at row:" + cellToBeLinked.getRow() + " col:" + cellToBeLinked.getColumn() + ".");
 			}
@@ -76,35 +65,47 @@ public class Cell {
 	 * @param cell - a maze cell
 	 */
 	public void unlink(Cell cell) {
-		this.link(cell, true);
+		this.unlink(cell, true);
 	}
 
 	/**
-	 * Unlinks two cells, bidirectionally if the flag is true
+	 * Unlinks two cells. As with {@link #link(Cell, Boolean)} the passage is
+	 * shared so it is always removed in both directions.
 	 *
 	 * @param cellToBeUnlinked - a maze cell
 	 * @param isBiDirectional  - boolean
 	 */
 	public void unlink(Cell cellToBeUnlinked, Boolean isBiDirectional) {
-
-		this.linkedCells.remove(cellToBeUnlinked);
-		if (isBiDirectional) {
-			Set<Cell> currentlyLinked = cellToBeUnlinked.getLinkedCells();
-			if (currentlyLinked.contains(this)) {
-				currentlyLinked.remove(this);
-				cellToBeUnlinked.setLinkedCells(currentlyLinked);
-			}
+		Direction direction = directionTo(cellToBeUnlinked);
+		if (direction != null) {
+			grid.unlink(index, direction);
 		}
 	}
 
 	public Boolean isLinked(Cell testCell) {
-		return this.getLinkedCells().contains(testCell);
+		Direction direction = directionTo(testCell);
+		return direction != null && grid.isLinked(index, direction);
+	}
+
+	/**
+	 * Links this cell to its neighbor in the given direction
+	 *
+	 * @param direction - direction of the neighbor
+	 */
+	public void link(Direction direction) {
+		grid.link(index, direction);
+	}
+
+	public boolean isLinked(Direction direction) {
+		return grid.isLinked(index, direction);
 	}
 
 	public Cell getRandomNeighbor() {
-		int randomDirection = ThreadLocalRandom.current().nextInt(0, this.neighbors.size());
-		ArrayList<Cell> neighborCells = new ArrayList<>(this.neighbors.values());
-		return neighborCells.get(randomDirection);
+		return getRandomNeighbor(grid.getRandomSource());
+	}
+
+	public Cell getRandomNeighbor(RandomSource random) {
+		return getNeighbor(grid.getRandomNeighborDirection(index, random));
 	}
 
 	/**
@@ -114,104 +115,125 @@ public class Cell {
 	 * @return {@link Optional<Cell>}
 	 */
 	public Optional<Cell> getRandomUnvisitedNeighbor() {
-		Optional<Cell> optionalCell;
-
-		List<Cell> unvisitedNeighbors = new ArrayList<>();
-		for (Cell cell : this.getNeighbors().values()) {
-			if (cell.visited.equals(false)) {
-				unvisitedNeighbors.add(cell);
-			}
-		}
-		if (unvisitedNeighbors.isEmpty()) {
-			optionalCell = Optional.empty();
-		} else {
-			int randomIndex = ThreadLocalRandom.current().nextInt(0, unvisitedNeighbors.size());
-			optionalCell = Optional.of(unvisitedNeighbors.get(randomIndex));
-		}
+		return getRandomUnvisitedNeighbor(grid.getRandomSource());
+	}
 
-		return optionalCell;
+	public Optional<Cell> getRandomUnvisitedNeighbor(RandomSource random) {
+		return getRandomNeighbor(false, random);
 	}
 
 	public Optional<Cell> getRandomVisitedNeighbor() {
-		Optional<Cell> optionalCell;
+		return getRandomVisitedNeighbor(grid.getRandomSource());
+	}
 
-		List<Cell> unvisitedNeighbors = new ArrayList<>();
-		for (Cell cell : this.getNeighbors().values()) {
-			if (cell.visited.equals(true)) {
-				unvisitedNeighbors.add(cell);
-			}
-		}
-		if (unvisitedNeighbors.isEmpty()) {
-			optionalCell = Optional.empty();
-		} else {
-			int randomIndex = ThreadLocalRandom.current().nextInt(0, unvisitedNeighbors.size());
-			optionalCell = Optional.of(unvisitedNeighbors.get(randomIndex));
-		}
+	public Optional<Cell> getRandomVisitedNeighbor(RandomSource random) {
+		return getRandomNeighbor(true, random);
+	}
 
-		return optionalCell;
+	private Optional<Cell> getRandomNeighbor(boolean isVisited, RandomSource random) {
+		Direction direction = grid.getRandomNeighborDirection(index, isVisited, random);
+		return direction != null ? Optional.of(getNeighbor(direction)) : Optional.empty();
 	}
 
+	/**
+	 * Returns the cells that share a passage with this cell. The set is a
+	 * snapshot, changing it does not change the maze.
+	 *
+	 * @return - linked cells
+	 */
 	public Set<Cell> getLinkedCells() {
+		Set<Cell> linkedCells = new HashSet<>();
+		for (Direction direction : DIRECTIONS) {
+			if (grid.isLinked(index, direction)) {
+				linkedCells.add(new Cell(grid, grid.getNeighbor(index, direction)));
+			}
+		}
 		return linkedCells;
 	}
 
-	public void setLinkedCells(Set<Cell> linkedCells) {
-		this.linkedCells = linkedCells;
+	public int getIndex() {
+		return index;
 	}
 
-	public Integer getRow() {
-		return row;
+	public int getRow() {
+		return grid.rowOf(index);
 	}
 
-	public Integer getColumn() {
-		return column;
+	public int getColumn() {
+		return grid.columnOf(index);
 	}
 
 	public Cell getNorth() {
-		return north;
+		return getNeighbor(Direction.NORTH);
 	}
 
-	public void setNorth(Cell north) {
-		this.north = north;
-		this.neighbors.put(Direction.NORTH, north);
+	public Cell getSouth() {
+		return getNeighbor(Direction.SOUTH);
 	}
 
-	public Cell getSouth() {
-		return south;
+	public Cell getEast() {
+		return getNeighbor(Direction.EAST);
 	}
 
-	public void setSouth(Cell south) {
-		this.south = south;
-		this.neighbors.put(Direction.SOUTH, south);
+	public Cell getWest() {
+		return getNeighbor(Direction.WEST);
 	}
 
-	public Cell getEast() {
-		return east;
+	/**
+	 * @param direction - direction of the neighbor
+	 * @return - the neighboring cell or null at the edge of the grid
+	 */
+	public Cell getNeighbor(Direction direction) {
+		int neighbor = grid.getNeighbor(index, direction);
+		return neighbor == Grid.NO_CELL ? null : new Cell(grid, neighbor);
 	}
 
-	public void setEast(Cell east) {
-		this.east = east;
-		this.neighbors.put(Direction.EAST, east);
+	public EnumMap<Direction, Cell> getNeighbors() {
+		EnumMap<Direction, Cell> neighbors = new EnumMap<>(Direction.class);
+		for (Direction direction : DIRECTIONS) {
+			Cell neighbor = getNeighbor(direction);
+			if (neighbor != null) {
+				neighbors.put(direction, neighbor);
+			}
+		}
+		return neighbors;
 	}
 
-	public Cell getWest() {
-		return west;
+	public boolean hasBeenVisited() {
+		return grid.isVisited(index);
 	}
 
-	public void setWest(Cell west) {
-		this.west = west;
-		this.neighbors.put(Direction.WEST, west);
+	public void setVisited(boolean visited) {
+		grid.setVisited(index, visited);
 	}
 
-	public EnumMap<Direction, Cell> getNeighbors() {
-		return neighbors;
+	//Direction of a neighboring cell, null if the cell is not a neighbor
+	private Direction directionTo(Cell cell) {
+		if (cell == null || cell.grid != this.grid) {
+			return null;
+		}
+		for (Direction direction : DIRECTIONS) {
+			if (grid.getNeighbor(index, direction) == cell.index) {
+				return direction;
+			}
+		}
+		return null;
 	}
 
-	public Boolean hasBeenVisited() {
-		return visited;
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Cell)) {
+			return false;
+		}
+		Cell cell = (Cell) o;
+		return grid == cell.grid && index == cell.index;
 	}
 
-	public void setVisited(Boolean visited) {
-		this.visited = visited;
+	@Override
+	public int hashCode() {
+		return index;
 	}
 }
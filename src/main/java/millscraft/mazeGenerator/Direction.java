@@ -16,4 +16,17 @@ public enum Direction {
 	public int getDirectionNumber() {
 		return directionNumber;
 	}
+
+	public Direction getOpposite() {
+		switch (this) {
+			case NORTH:
+				return SOUTH;
+			case SOUTH:
+				return NORTH;
+			case EAST:
+				return WEST;
+			default:
+				return EAST;
+		}
+	}
 }
@@ -1,68 +1,117 @@
 package millscraft.mazeGenerator;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import millscraft.mazeGenerator.exception.CellLinkException;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.RandomAccess;
 
 /**
+ * A rectangular grid of maze cells.
+ * <p>
+ * Cells are not stored as objects. Each cell is addressed by its row-major index
+ * and owns two passage bits, one for the passage to its east and one for the passage
+ * to its south. A passage to the north or west is the southern or eastern passage of
+ * the neighboring cell. Visited flags are kept in a separate bitset. {@link Cell}
+ * instances are lightweight views over this storage and are created on demand.
+ * <p>
+ * Random choices made through the grid and its cells are drawn from the grid's
+ * {@link RandomSource}, so a grid built with a seeded source is reproducible.
+ *
  * @author Grant Mills
  * @since 3/2/18
  */
 public class Grid {
-	private List<List<Cell>> grid;
-	private Integer rowSize;
-	private Integer columnSize;
-	private Integer size;
+	/**
+	 * Returned by index based lookups when there is no cell in the requested direction
+	 */
+	public static final int NO_CELL = -1;
+
+	/**
+	 * Passages and visited flags are packed into 64 bit words. Rows that are a multiple of
+	 * this value always start on a fresh word, so threads writing to bands of rows that start
+	 * on such rows never write to the same word. Writes into another band still need to be
+	 * coordinated.
+	 */
+	public static final int ROW_BAND_ALIGNMENT = 64;
+
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static final int EAST_BIT = 0;
+	private static final int SOUTH_BIT = 1;
+
+	private final int rowSize;
+	private final int columnSize;
+	private final int size;
+	private final long[] passages;
+	private final long[] visited;
+	private RandomSource randomSource;
+	private final List<List<Cell>> grid = new Rows();
 
 	/**
 	 * @param rowSize    - height of the maze
 	 * @param columnSize - width of the maze
 	 */
-	public Grid(Integer rowSize, Integer columnSize) {
+	public Grid(int rowSize, int columnSize) {
+		this(rowSize, columnSize, RandomSource.threadLocal());
+	}
+
+	/**
+	 * @param rowSize      - height of the maze
+	 * @param columnSize   - width of the maze
+	 * @param randomSource - source of the random choices made on this grid
+	 */
+	public Grid(int rowSize, int columnSize, RandomSource randomSource) {
+		if (randomSource == null) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		if (rowSize < 1 || columnSize < 1) {
+			throw new IllegalArgumentException("Grid dimensions must be positive. Rows:" + rowSize + " columns:" + columnSize);
+		}
 		this.rowSize = rowSize;
 		this.columnSize = columnSize;
-		this.size = rowSize * columnSize;
+		this.size = Math.multiplyExact(rowSize, columnSize);
+		this.randomSource = randomSource;
 
-		//Create a 2d grid of cells
-		createGrid(rowSize, columnSize);
-		configureCellNeighbors();
+		this.passages = new long[(int) ((2L * size + 63) >>> 6)];
+		this.visited = new long[(int) ((size + 63L) >>> 6)];
 	}
 
-	//Creates the grid of cells
-	private void createGrid(Integer rowSize, Integer columnSize) {
-		this.grid = new ArrayList<>();
-		for (int x = 0; x < rowSize; x++) {
-			ArrayList<Cell> row = new ArrayList<>();
+	/**
+	 * Removes every passage and clears every visited flag, leaving the grid as it was
+	 * built. Nothing is allocated, the grid can be carved again at the cost of clearing
+	 * a bit per passage.
+	 */
+	public void reset() {
+		Arrays.fill(passages, 0L);
+		Arrays.fill(visited, 0L);
+	}
 
-			this.grid.add(row);
-			for (int y = 0; y < columnSize; y++) {
-				row.add(new Cell(x, y));
-			}
+	/**
+	 * Clears the grid like {@link #reset()} and replaces its random source
+	 *
+	 * @param randomSource - source of the random choices made on this grid from now on
+	 */
+	public void reset(RandomSource randomSource) {
+		if (randomSource == null) {
+			throw new IllegalArgumentException("Random source cannot be null");
 		}
+		reset();
+		this.randomSource = randomSource;
 	}
 
-	//Sets references to a cell's neighbors on each cell
-	private void configureCellNeighbors() {
-		for (List<Cell> row : this.grid) {
-			for (Cell cell : row) {
-
-				//North
-				Optional<Cell> northOption = doesCellExistInGrid(cell.getRow() - 1, cell.getColumn());
-				northOption.ifPresent(cell::setNorth);
-
-				//South
-				Optional<Cell> southOption = doesCellExistInGrid(cell.getRow() + 1, cell.getColumn());
-				southOption.ifPresent(cell::setSouth);
-				//East
-				Optional<Cell> eastOption = doesCellExistInGrid(cell.getRow(), cell.getColumn() + 1);
-				eastOption.ifPresent(cell::setEast);
-				//West
-				Optional<Cell> westOption = doesCellExistInGrid(cell.getRow(), cell.getColumn() - 1);
-				westOption.ifPresent(cell::setWest);
-			}
+	/**
+	 * Replaces the grid's random source without clearing it
+	 *
+	 * @param randomSource - source of the random choices made on this grid from now on
+	 */
+	public void setRandomSource(RandomSource randomSource) {
+		if (randomSource == null) {
+			throw new IllegalArgumentException("Random source cannot be null");
 		}
+		this.randomSource = randomSource;
 	}
 
 	/**
@@ -76,17 +125,234 @@ public class Grid {
 	public Optional<Cell> doesCellExistInGrid(Integer row, Integer column) {
 		Cell checkedCell = null;
 
-		if (row >= 0 && row < grid.size()) {
-			if (grid.get(row) != null && grid.get(row) != Collections.EMPTY_LIST) {
-				if (column >= 0 && column < grid.get(row).size()) {
-					checkedCell = grid.get(row).get(column);
-				}
-			}
+		if (row != null && column != null && contains(row, column)) {
+			checkedCell = getCell(row, column);
 		}
 
 		return Optional.ofNullable(checkedCell);
 	}
 
+	public boolean contains(int row, int column) {
+		return row >= 0 && row < rowSize && column >= 0 && column < columnSize;
+	}
+
+	public Cell getCell(int row, int column) {
+		if (!contains(row, column)) {
+			throw new IndexOutOfBoundsException("No cell at row:" + row + " col:" + column);
+		}
+		return new Cell(this, indexOf(row, column));
+	}
+
+	public Cell getCell(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("No cell at index:" + index);
+		}
+		return new Cell(this, index);
+	}
+
+	public int indexOf(int row, int column) {
+		return row * columnSize + column;
+	}
+
+	public int rowOf(int index) {
+		return index / columnSize;
+	}
+
+	public int columnOf(int index) {
+		return index % columnSize;
+	}
+
+	/**
+	 * Returns the index of the neighboring cell in the given direction
+	 *
+	 * @param index     - index of a cell
+	 * @param direction - direction of the neighbor
+	 * @return - index of the neighbor or {@link #NO_CELL} at the edge of the grid
+	 */
+	public int getNeighbor(int index, Direction direction) {
+		switch (direction) {
+			case NORTH:
+				return index >= columnSize ? index - columnSize : NO_CELL;
+			case SOUTH:
+				return index < size - columnSize ? index + columnSize : NO_CELL;
+			case EAST:
+				return columnOf(index) < columnSize - 1 ? index + 1 : NO_CELL;
+			case WEST:
+				return columnOf(index) > 0 ? index - 1 : NO_CELL;
+			default:
+				return NO_CELL;
+		}
+	}
+
+	/**
+	 * @param index     - index of a cell
+	 * @param direction - direction of the passage
+	 * @return - true if the cell has a passage to its neighbor in the given direction
+	 */
+	public boolean isLinked(int index, Direction direction) {
+		switch (direction) {
+			case NORTH:
+				return index >= columnSize && getPassage(index - columnSize, SOUTH_BIT);
+			case SOUTH:
+				return index < size - columnSize && getPassage(index, SOUTH_BIT);
+			case EAST:
+				return columnOf(index) < columnSize - 1 && getPassage(index, EAST_BIT);
+			case WEST:
+				return columnOf(index) > 0 && getPassage(index - 1, EAST_BIT);
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Carves a passage between a cell and its neighbor in the given direction
+	 *
+	 * @param index     - index of a cell
+	 * @param direction - direction of the neighbor
+	 */
+	public void link(int index, Direction direction) {
+		setPassage(index, direction, true);
+	}
+
+	/**
+	 * Removes the passage between a cell and its neighbor in the given direction
+	 *
+	 * @param index     - index of a cell
+	 * @param direction - direction of the neighbor
+	 */
+	public void unlink(int index, Direction direction) {
+		setPassage(index, direction, false);
+	}
+
+	/**
+	 * @param index - index of a cell
+	 * @return - the number of passages leading out of the cell
+	 */
+	public int getLinkCount(int index) {
+		int count = 0;
+		if (isLinked(index, Direction.NORTH)) {
+			count++;
+		}
+		if (isLinked(index, Direction.SOUTH)) {
+			count++;
+		}
+		if (isLinked(index, Direction.EAST)) {
+			count++;
+		}
+		if (isLinked(index, Direction.WEST)) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Picks one of a cell's neighbors uniformly at random without allocating.
+	 * Neighbors are counted in {@link Direction} order, so the same random source always
+	 * picks the same neighbor.
+	 *
+	 * @param index  - index of a cell
+	 * @param random - source of the random choice
+	 * @return - direction of the chosen neighbor
+	 */
+	public Direction getRandomNeighborDirection(int index, RandomSource random) {
+		int column = columnOf(index);
+		boolean hasNorth = index >= columnSize;
+		boolean hasSouth = index < size - columnSize;
+		boolean hasEast = column < columnSize - 1;
+		boolean hasWest = column > 0;
+		int neighborCount = (hasNorth ? 1 : 0) + (hasSouth ? 1 : 0) + (hasEast ? 1 : 0) + (hasWest ? 1 : 0);
+		if (neighborCount == 0) {
+			throw new IllegalStateException("Cell at row:" + rowOf(index) + " col:" + column + " has no neighbors");
+		}
+
+		int choice = random.nextInt(neighborCount);
+		if (hasNorth && choice-- == 0) {
+			return Direction.NORTH;
+		}
+		if (hasSouth && choice-- == 0) {
+			return Direction.SOUTH;
+		}
+		if (hasEast && choice == 0) {
+			return Direction.EAST;
+		}
+		return Direction.WEST;
+	}
+
+	/**
+	 * Picks one of the neighbors with the given visited state uniformly at random without
+	 * allocating. Neighbors are counted in {@link Direction} order.
+	 *
+	 * @param index     - index of a cell
+	 * @param isVisited - visited state the neighbor must have
+	 * @param random    - source of the random choice
+	 * @return - direction of the chosen neighbor, or null if no neighbor matches
+	 */
+	public Direction getRandomNeighborDirection(int index, boolean isVisited, RandomSource random) {
+		//Bit i is set when the neighbor in DIRECTIONS[i] matches
+		int matching = 0;
+		for (int i = 0; i < DIRECTIONS.length; i++) {
+			int neighbor = getNeighbor(index, DIRECTIONS[i]);
+			if (neighbor != NO_CELL && isVisited(neighbor) == isVisited) {
+				matching |= 1 << i;
+			}
+		}
+		if (matching == 0) {
+			return null;
+		}
+
+		for (int choice = random.nextInt(Integer.bitCount(matching)); choice > 0; choice--) {
+			matching &= matching - 1;
+		}
+		return DIRECTIONS[Integer.numberOfTrailingZeros(matching)];
+	}
+
+	public boolean isVisited(int index) {
+		return (visited[index >>> 6] & (1L << index)) != 0;
+	}
+
+	public void setVisited(int index, boolean isVisited) {
+		if (isVisited) {
+			visited[index >>> 6] |= 1L << index;
+		} else {
+			visited[index >>> 6] &= ~(1L << index);
+		}
+	}
+
+	private void setPassage(int index, Direction direction, boolean isOpen) {
+		int neighbor = getNeighbor(index, direction);
+		if (neighbor == NO_CELL) {
+			throw new CellLinkException("Cells cannot be linked. Cell at row:" + rowOf(index) + " col:" + columnOf(index) + " has no neighbor to the " + direction + ".");
+		}
+
+		switch (direction) {
+			case NORTH:
+				setPassage(neighbor, SOUTH_BIT, isOpen);
+				break;
+			case SOUTH:
+				setPassage(index, SOUTH_BIT, isOpen);
+				break;
+			case EAST:
+				setPassage(index, EAST_BIT, isOpen);
+				break;
+			case WEST:
+				setPassage(neighbor, EAST_BIT, isOpen);
+				break;
+		}
+	}
+
+	private boolean getPassage(int index, int bit) {
+		long position = 2L * index + bit;
+		return (passages[(int) (position >>> 6)] & (1L << position)) != 0;
+	}
+
+	private void setPassage(int index, int bit, boolean isOpen) {
+		long position = 2L * index + bit;
+		if (isOpen) {
+			passages[(int) (position >>> 6)] |= 1L << position;
+		} else {
+			passages[(int) (position >>> 6)] &= ~(1L << position);
+		}
+	}
 
 	/**
 	 * Returns a random cell from the maze
@@ -94,40 +360,101 @@ public class Grid {
 	 * @return - {@link Cell} random cell
 	 */
 	public Cell getRandomCell() {
-		int rowValue = ThreadLocalRandom.current().nextInt(0, this.rowSize);
-		int columnValue = ThreadLocalRandom.current().nextInt(0, this.columnSize);
-		return this.grid.get(rowValue).get(columnValue);
+		return getRandomCell(randomSource);
+	}
+
+	/**
+	 * Returns a random cell from the maze
+	 *
+	 * @param random - source of the random choice
+	 * @return - {@link Cell} random cell
+	 */
+	public Cell getRandomCell(RandomSource random) {
+		int rowValue = random.nextInt(this.rowSize);
+		int columnValue = random.nextInt(this.columnSize);
+		return getCell(rowValue, columnValue);
 	}
 
 	public Cell getRandomUnlinkedCell() {
-		Cell possibleCell = this.getRandomCell();
-		while (!possibleCell.getLinkedCells().isEmpty()) {
-			possibleCell = this.getRandomCell();
+		return getRandomUnlinkedCell(randomSource);
+	}
+
+	public Cell getRandomUnlinkedCell(RandomSource random) {
+		Cell possibleCell = this.getRandomCell(random);
+		while (getLinkCount(possibleCell.getIndex()) > 0) {
+			possibleCell = this.getRandomCell(random);
 		}
 		return possibleCell;
 	}
 
 	public Cell getRandomUnvisitedCell() {
-		Cell possibleCell = this.getRandomCell();
+		return getRandomUnvisitedCell(randomSource);
+	}
+
+	public Cell getRandomUnvisitedCell(RandomSource random) {
+		Cell possibleCell = this.getRandomCell(random);
 		while (possibleCell.hasBeenVisited()) {
-			possibleCell = this.getRandomCell();
+			possibleCell = this.getRandomCell(random);
 		}
 		return possibleCell;
 	}
 
+	/**
+	 * Returns a read only, row by row view of the cells in this grid.
+	 * Cells are created as they are requested.
+	 *
+	 * @return - rows of cells
+	 */
 	public List<List<Cell>> getGrid() {
 		return grid;
 	}
 
-	public Integer getRowSize() {
+	public int getRowSize() {
 		return rowSize;
 	}
 
-	public Integer getColumnSize() {
+	public int getColumnSize() {
 		return columnSize;
 	}
 
-	public Integer getSize() {
+	public int getSize() {
 		return size;
 	}
+
+	public RandomSource getRandomSource() {
+		return randomSource;
+	}
+
+	private class Rows extends AbstractList<List<Cell>> implements RandomAccess {
+		@Override
+		public List<Cell> get(int row) {
+			if (row < 0 || row >= rowSize) {
+				throw new IndexOutOfBoundsException("No row:" + row);
+			}
+			return new Row(row);
+		}
+
+		@Override
+		public int size() {
+			return rowSize;
+		}
+	}
+
+	private class Row extends AbstractList<Cell> implements RandomAccess {
+		private final int row;
+
+		private Row(int row) {
+			this.row = row;
+		}
+
+		@Override
+		public Cell get(int column) {
+			return getCell(row, column);
+		}
+
+		@Override
+		public int size() {
+			return columnSize;
+		}
+	}
 }
@@ -0,0 +1,116 @@
+package millscraft.mazeGenerator;
+
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Recycles grids of the same size, so a maze regenerated at the same dimensions over
+ * and over does not allocate a new grid each time. Released grids are cleared with
+ * {@link Grid#reset()} and kept per size up to a limit, acquiring one hands out a
+ * cleared grid or builds a new one if none is idle.
+ * <p>
+ * A grid must not be used after it is released. The pool is safe to share between threads.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class GridPool {
+	private static final int DEFAULT_MAX_IDLE_PER_SIZE = 4;
+
+	private final int maxIdlePerSize;
+	//Idle grids keyed by row size in the high half and column size in the low half
+	private final Map<Long, ArrayDeque<Grid>> idleGrids = new HashMap<>();
+
+	public GridPool() {
+		this(DEFAULT_MAX_IDLE_PER_SIZE);
+	}
+
+	/**
+	 * @param maxIdlePerSize - most released grids kept for each size, more are left to the garbage collector
+	 */
+	public GridPool(int maxIdlePerSize) {
+		if (maxIdlePerSize < 0) {
+			throw new IllegalArgumentException("Idle grid limit cannot be negative");
+		}
+		this.maxIdlePerSize = maxIdlePerSize;
+	}
+
+	/**
+	 * @param rowSize    - height of the maze
+	 * @param columnSize - width of the maze
+	 * @return - an empty grid using a thread local random source
+	 */
+	public Grid acquire(int rowSize, int columnSize) {
+		return acquire(rowSize, columnSize, RandomSource.threadLocal());
+	}
+
+	/**
+	 * @param rowSize      - height of the maze
+	 * @param columnSize   - width of the maze
+	 * @param randomSource - source of the random choices made on the grid
+	 * @return - an empty grid
+	 */
+	public Grid acquire(int rowSize, int columnSize, RandomSource randomSource) {
+		Grid grid;
+		synchronized (idleGrids) {
+			ArrayDeque<Grid> idle = idleGrids.get(getKey(rowSize, columnSize));
+			grid = idle != null ? idle.poll() : null;
+		}
+
+		if (grid == null) {
+			return new Grid(rowSize, columnSize, randomSource);
+		}
+		//Idle grids were cleared when they were released
+		grid.setRandomSource(randomSource);
+		return grid;
+	}
+
+	/**
+	 * Clears a grid and returns it to the pool
+	 *
+	 * @param grid - a grid that is no longer used
+	 */
+	public void release(Grid grid) {
+		if (grid == null) {
+			throw new IllegalArgumentException("Grid cannot be null");
+		}
+		grid.reset();
+
+		synchronized (idleGrids) {
+			ArrayDeque<Grid> idle = idleGrids.computeIfAbsent(getKey(grid.getRowSize(), grid.getColumnSize()), key -> new ArrayDeque<>());
+			//Releasing a grid twice must not let two callers acquire it
+			if (idle.size() < maxIdlePerSize && !idle.contains(grid)) {
+				idle.push(grid);
+			}
+		}
+	}
+
+	/**
+	 * @return - the number of idle grids of every size
+	 */
+	public int getIdleCount() {
+		synchronized (idleGrids) {
+			int count = 0;
+			for (ArrayDeque<Grid> idle : idleGrids.values()) {
+				count += idle.size();
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * Lets go of every idle grid
+	 */
+	public void clear() {
+		synchronized (idleGrids) {
+			idleGrids.clear();
+		}
+	}
+
+	private static long getKey(int rowSize, int columnSize) {
+		return ((long) rowSize << 32) | (columnSize & 0xFFFFFFFFL);
+	}
+}
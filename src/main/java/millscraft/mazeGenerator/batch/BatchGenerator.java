@@ -0,0 +1,223 @@
+package millscraft.mazeGenerator.batch;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.render.Renderer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates many mazes at once on an executor.
+ * <p>
+ * At most a fixed number of jobs are queued or running at a time. Submitting another
+ * job blocks until one of them finishes, so a large batch never floods the executor or
+ * holds more than that many mazes in memory waiting to be collected by a stream.
+ * <p>
+ * Generators and renderers are shared by every job running at the same time and must
+ * be safe to use concurrently. The built in generators are. Of the renderers,
+ * {@link millscraft.mazeGenerator.render.ImageRendererImpl} is not, because every render
+ * writes the same file, and neither are the renderers that write to a single stream or writer.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class BatchGenerator implements AutoCloseable {
+	private final Executor executor;
+	//Null when the executor was supplied by the caller
+	private final ExecutorService ownedExecutor;
+	private final Semaphore pending;
+	private final int maxPending;
+
+	/**
+	 * Runs jobs on a pool of daemon threads owned by this generator, shut down by {@link #close()}
+	 *
+	 * @param threads    - number of jobs run at once
+	 * @param maxPending - most jobs queued or running at once
+	 */
+	public BatchGenerator(int threads, int maxPending) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Thread count must be positive");
+		}
+		this.ownedExecutor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory());
+		this.executor = ownedExecutor;
+		this.maxPending = checkMaxPending(maxPending);
+		this.pending = new Semaphore(maxPending);
+	}
+
+	/**
+	 * Runs jobs on the given executor, which is left running by {@link #close()}
+	 *
+	 * @param executor   - executor the jobs run on
+	 * @param maxPending - most jobs queued or running at once
+	 */
+	public BatchGenerator(Executor executor, int maxPending) {
+		if (null == executor) {
+			throw new IllegalArgumentException("Executor cannot be null");
+		}
+		this.ownedExecutor = null;
+		this.executor = executor;
+		this.maxPending = checkMaxPending(maxPending);
+		this.pending = new Semaphore(maxPending);
+	}
+
+	private static int checkMaxPending(int maxPending) {
+		if (maxPending < 1) {
+			throw new IllegalArgumentException("Pending job limit must be positive");
+		}
+		return maxPending;
+	}
+
+	/**
+	 * Queues a job, blocking while the pending job limit is reached
+	 *
+	 * @param job - the maze to generate
+	 * @return - completes with the maze, or exceptionally if generating it fails
+	 */
+	public CompletableFuture<Grid> submit(MazeJob job) {
+		return submit(job, Function.identity());
+	}
+
+	/**
+	 * Queues a job whose maze is rendered on the same thread once it is generated,
+	 * blocking while the pending job limit is reached
+	 *
+	 * @param job       - the maze to generate
+	 * @param renderer  - renderer for the maze, see the class comment on sharing renderers
+	 * @param startSide - side of the entrance
+	 * @param endSide   - side of the exit
+	 * @return - completes with the rendered maze, or exceptionally if generating or rendering it fails
+	 */
+	public <T> CompletableFuture<T> submit(MazeJob job, Renderer<T> renderer, Direction startSide, Direction endSide) {
+		if (null == renderer) {
+			throw new IllegalArgumentException("Renderer cannot be null");
+		}
+		return submit(job, maze -> renderer.render(maze, startSide, endSide));
+	}
+
+	/**
+	 * Queues every job in order, blocking while the pending job limit is reached
+	 *
+	 * @param jobs - the mazes to generate
+	 * @return - a future for each job, in the same order
+	 */
+	public List<CompletableFuture<Grid>> submitAll(List<MazeJob> jobs) {
+		List<CompletableFuture<Grid>> futures = new ArrayList<>(jobs.size());
+		for (MazeJob job : jobs) {
+			futures.add(submit(job));
+		}
+		return futures;
+	}
+
+	/**
+	 * Generates the jobs as the stream is consumed, keeping up to the pending job limit
+	 * running ahead of the consumer. Mazes are returned in job order. A job that fails
+	 * throws a {@link CompletionException} from the stream.
+	 *
+	 * @param jobs - the mazes to generate
+	 * @return - the generated mazes
+	 */
+	public Stream<Grid> stream(List<MazeJob> jobs) {
+		Iterator<Grid> results = new ResultIterator(jobs.iterator());
+		return StreamSupport.stream(Spliterators.spliterator(results, jobs.size(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	private <T> CompletableFuture<T> submit(MazeJob job, Function<Grid, T> finisher) {
+		if (null == job) {
+			throw new IllegalArgumentException("Maze job cannot be null");
+		}
+		try {
+			pending.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to submit a maze job", e);
+		}
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				try {
+					future.complete(finisher.apply(job.run()));
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				} finally {
+					pending.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			//Rejected by the executor
+			pending.release();
+			throw e;
+		}
+		return future;
+	}
+
+	/**
+	 * Shuts down the thread pool if this generator created it. Jobs already queued still run.
+	 */
+	@Override
+	public void close() {
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+		}
+	}
+
+	//Submits jobs as results are taken, never more than the pending limit ahead
+	private class ResultIterator implements Iterator<Grid> {
+		private final Iterator<MazeJob> jobs;
+		private final ArrayDeque<CompletableFuture<Grid>> running = new ArrayDeque<>();
+
+		private ResultIterator(Iterator<MazeJob> jobs) {
+			this.jobs = jobs;
+		}
+
+		@Override
+		public boolean hasNext() {
+			fill();
+			return !running.isEmpty();
+		}
+
+		@Override
+		public Grid next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Grid maze = running.poll().join();
+			fill();
+			return maze;
+		}
+
+		private void fill() {
+			while (running.size() < maxPending && jobs.hasNext()) {
+				running.add(submit(jobs.next()));
+			}
+		}
+	}
+
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "maze-batch-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
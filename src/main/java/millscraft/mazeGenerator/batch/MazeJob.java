@@ -0,0 +1,63 @@
+package millscraft.mazeGenerator.batch;
+
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.generator.GeneratorAlgorithm;
+import millscraft.mazeGenerator.random.RandomSource;
+
+/**
+ * One maze to generate: its size, the algorithm that carves it and the seed it is
+ * carved from. Running a job always produces the same maze.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class MazeJob {
+	private final int rowSize;
+	private final int columnSize;
+	private final GeneratorAlgorithm algorithm;
+	private final long seed;
+
+	/**
+	 * @param rowSize    - height of the maze
+	 * @param columnSize - width of the maze
+	 * @param algorithm  - algorithm that carves the maze, it may be shared between jobs running at once
+	 * @param seed       - seed of the grid's random source
+	 */
+	public MazeJob(int rowSize, int columnSize, GeneratorAlgorithm algorithm, long seed) {
+		if (rowSize < 1 || columnSize < 1) {
+			throw new IllegalArgumentException("Maze dimensions must be positive");
+		}
+		if (null == algorithm) {
+			throw new IllegalArgumentException("Generator algorithm cannot be null");
+		}
+		this.rowSize = rowSize;
+		this.columnSize = columnSize;
+		this.algorithm = algorithm;
+		this.seed = seed;
+	}
+
+	/**
+	 * Generates the maze on the calling thread
+	 *
+	 * @return - the carved maze
+	 */
+	public Grid run() {
+		return algorithm.prepareMaze(new Grid(rowSize, columnSize, RandomSource.seeded(seed)));
+	}
+
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	public int getColumnSize() {
+		return columnSize;
+	}
+
+	public GeneratorAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+}
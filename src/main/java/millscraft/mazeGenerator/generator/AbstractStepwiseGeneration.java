@@ -0,0 +1,83 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Grid;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the steps of a {@link StepwiseGeneration}. Generators implement a single step and
+ * their completion check, and also run to completion through here in prepareMaze so the
+ * two ways of generating a maze cannot drift apart.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+abstract class AbstractStepwiseGeneration implements StepwiseGeneration {
+	private static final int STEPS_PER_CLOCK_CHECK = 64;
+
+	protected final Grid maze;
+	private final GenerationMetrics metrics;
+	private boolean isFinished = false;
+
+	/**
+	 * @param metrics - told when the maze is complete
+	 */
+	AbstractStepwiseGeneration(Grid maze, GenerationMetrics metrics) {
+		this.maze = maze;
+		this.metrics = metrics;
+	}
+
+	//Takes one step, only called while the maze is not complete
+	abstract void step();
+
+	//Called once the maze is complete, before the listener is told
+	void beforeFinish() {
+	}
+
+	@Override
+	public final double advance(long maxSteps) {
+		for (long steps = 0; steps < maxSteps && !isComplete(); steps++) {
+			step();
+		}
+		finishIfComplete();
+		return getProgress();
+	}
+
+	@Override
+	public final double advance(long budget, TimeUnit unit) {
+		long deadline = System.nanoTime() + unit.toNanos(budget);
+		while (!isComplete()) {
+			for (int i = 0; i < STEPS_PER_CLOCK_CHECK && !isComplete(); i++) {
+				step();
+			}
+			if (System.nanoTime() - deadline >= 0) {
+				break;
+			}
+		}
+		finishIfComplete();
+		return getProgress();
+	}
+
+	/**
+	 * Takes every remaining step
+	 *
+	 * @return - the complete maze
+	 */
+	final Grid run() {
+		advance(Long.MAX_VALUE);
+		return maze;
+	}
+
+	@Override
+	public Grid getMaze() {
+		return maze;
+	}
+
+	private void finishIfComplete() {
+		if (!isFinished && isComplete()) {
+			isFinished = true;
+			beforeFinish();
+			metrics.finish();
+		}
+	}
+}
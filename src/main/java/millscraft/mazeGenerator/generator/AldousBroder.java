@@ -1,7 +1,8 @@
 package millscraft.mazeGenerator.generator;
 
-import millscraft.mazeGenerator.Cell;
+import millscraft.mazeGenerator.Direction;
 import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
 
 /**
  * The Aldous-Broder algorithm for creating a maze takes a long time
@@ -13,31 +14,79 @@ import millscraft.mazeGenerator.Grid;
 public class AldousBroder implements GeneratorAlgorithm {
 
 	@Override
-	public Grid prepareMaze(Grid maze) {
+	public Grid prepareMaze(Grid maze, RandomSource random) {
+		return prepareMaze(maze, random, GenerationListener.NONE);
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener).run();
+	}
+
+	@Override
+	public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener);
+	}
+
+	private Generation start(Grid maze, RandomSource random, GenerationListener listener) {
 		if (null == maze) {
 			throw new IllegalArgumentException("Maze grid cannot be null");
 		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		return new Generation(maze, random, new GenerationMetrics(maze, this, listener));
+	}
 
-		//Start in a random cell in the maze
-		Cell currentCell = maze.getRandomCell();
-		int unvisitedCells = maze.getSize() - 1;
+	//A step is one move of the walk
+	private static class Generation extends AbstractStepwiseGeneration {
+		private final RandomSource random;
+		private final GenerationMetrics metrics;
+		private int currentCell;
+		private int unvisitedCells;
 
-		//As long as there are unvisited cells
-		while (unvisitedCells > 0) {
+		private Generation(Grid maze, RandomSource random, GenerationMetrics metrics) {
+			super(maze, metrics);
+			this.random = random;
+			this.metrics = metrics;
+			metrics.start();
+			metrics.enterPhase(GenerationPhase.WALK);
+
+			//Start in a random cell in the maze
+			this.currentCell = maze.getRandomCell(random).getIndex();
+			metrics.visit();
+			this.unvisitedCells = maze.getSize() - 1;
+		}
+
+		@Override
+		void step() {
 			//Get a random neighboring cell
-			Cell randomNeighbor = currentCell.getRandomNeighbor();
+			Direction direction = maze.getRandomNeighborDirection(currentCell, random);
+			int randomNeighbor = maze.getNeighbor(currentCell, direction);
 
 			//If the random neighbor cell has no existing links then link it to the current cell
-			if (randomNeighbor.getLinkedCells().isEmpty()) {
+			if (maze.getLinkCount(randomNeighbor) == 0) {
 				//Link them and decrement the count of unvisited cells
-				randomNeighbor.link(currentCell);
+				maze.link(currentCell, direction);
+				metrics.link();
+				metrics.visit();
 				unvisitedCells -= 1;
 			}
 
 			//Either way make the random neighbor cell the current cell
 			currentCell = randomNeighbor;
+			metrics.step();
 		}
 
-		return maze;
+		//As long as there are unvisited cells
+		@Override
+		public boolean isComplete() {
+			return unvisitedCells == 0;
+		}
+
+		@Override
+		public double getProgress() {
+			return 1 - (double) unvisitedCells / maze.getSize();
+		}
 	}
 }
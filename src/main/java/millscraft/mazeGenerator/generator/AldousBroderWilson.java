@@ -0,0 +1,126 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+/**
+ * A hybrid of Aldous-Broder and Wilson's algorithm. Aldous-Broder is quick while most
+ * cells are unvisited but wanders over visited cells near the end, Wilson's is the
+ * opposite. The maze is started with an Aldous-Broder walk which stops once a fraction
+ * of the cells are visited, then the rest are added with loop-erased walks.
+ * Both halves are unbiased so the combined maze is too.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class AldousBroderWilson implements GeneratorAlgorithm {
+	private static final double DEFAULT_SWITCH_FRACTION = 0.3;
+
+	private final double switchFraction;
+
+	public AldousBroderWilson() {
+		this(DEFAULT_SWITCH_FRACTION);
+	}
+
+	/**
+	 * @param switchFraction - fraction of cells visited by Aldous-Broder before switching
+	 *                       to Wilson's algorithm, between 0 and 1
+	 */
+	public AldousBroderWilson(double switchFraction) {
+		if (!(switchFraction >= 0 && switchFraction <= 1)) {
+			throw new IllegalArgumentException("Switch fraction must be between 0 and 1");
+		}
+		this.switchFraction = switchFraction;
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random) {
+		return prepareMaze(maze, random, GenerationListener.NONE);
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener).run();
+	}
+
+	@Override
+	public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener);
+	}
+
+	private Generation start(Grid maze, RandomSource random, GenerationListener listener) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		return new Generation(maze, random, new GenerationMetrics(maze, this, listener));
+	}
+
+	//A step is one move of a walk or one cell of a loop-erased path linked into the maze
+	private class Generation extends AbstractStepwiseGeneration {
+		private final RandomSource random;
+		private final GenerationMetrics metrics;
+		private final LoopErasedWalk walk;
+		private final int switchAt;
+		private int current;
+		private int unvisitedCells;
+		private int nextStart = 0;
+
+		private Generation(Grid maze, RandomSource random, GenerationMetrics metrics) {
+			super(maze, metrics);
+			this.random = random;
+			this.metrics = metrics;
+			this.walk = new LoopErasedWalk(maze);
+			metrics.start();
+
+			//Start in a random cell in the maze
+			this.current = maze.getRandomCell(random).getIndex();
+			maze.setVisited(current, true);
+			metrics.visit();
+			this.unvisitedCells = maze.getSize() - 1;
+			this.switchAt = maze.getSize() - Math.max(1, (int) (maze.getSize() * switchFraction));
+			metrics.enterPhase(GenerationPhase.WALK);
+		}
+
+		@Override
+		void step() {
+			//Aldous-Broder until enough cells are visited
+			if (unvisitedCells > switchAt) {
+				Direction direction = maze.getRandomNeighborDirection(current, random);
+				int neighbor = maze.getNeighbor(current, direction);
+				if (!maze.isVisited(neighbor)) {
+					maze.link(current, direction);
+					maze.setVisited(neighbor, true);
+					metrics.link();
+					metrics.visit();
+					unvisitedCells -= 1;
+				}
+				current = neighbor;
+				metrics.step();
+				return;
+			}
+
+			//Wilson's for the rest
+			if (!walk.isActive()) {
+				while (maze.isVisited(nextStart)) {
+					nextStart++;
+				}
+				walk.begin(nextStart, metrics);
+			}
+			unvisitedCells -= walk.step(random, metrics);
+		}
+
+		@Override
+		public boolean isComplete() {
+			return unvisitedCells == 0;
+		}
+
+		@Override
+		public double getProgress() {
+			return 1 - (double) unvisitedCells / maze.getSize();
+		}
+	}
+}
@@ -1,52 +1,113 @@
 package millscraft.mazeGenerator.generator;
 
-import millscraft.mazeGenerator.Cell;
+import millscraft.mazeGenerator.Direction;
 import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A very simple algorithm for generating a maze.
  * Its bias creates a maze with an empty top row and right column.
+ * <p>
+ * Given a {@link ForkJoinPool} the rows are carved in parallel bands, see {@link RowBands}.
  *
  * @author Grant Mills
  * @since 3/9/18
  */
 public class BinaryTree implements GeneratorAlgorithm {
+	private final ForkJoinPool pool;
+	private final int bandRows;
+
+	public BinaryTree() {
+		this(null, RowBands.DEFAULT_BAND_ROWS);
+	}
+
+	/**
+	 * @param pool - pool to carve bands of rows on
+	 */
+	public BinaryTree(ForkJoinPool pool) {
+		this(pool, RowBands.DEFAULT_BAND_ROWS);
+	}
+
+	/**
+	 * @param pool     - pool to carve bands of rows on, null to carve on the calling thread
+	 * @param bandRows - rows per band, rounded up to a multiple of {@link Grid#ROW_BAND_ALIGNMENT}
+	 */
+	public BinaryTree(ForkJoinPool pool, int bandRows) {
+		this.pool = pool;
+		this.bandRows = RowBands.alignBandRows(bandRows);
+	}
 
 	@Override
-	public Grid prepareMaze(Grid maze) {
+	public Grid prepareMaze(Grid maze, RandomSource random) {
 		if (null == maze) {
 			throw new IllegalArgumentException("Maze grid cannot be null");
 		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+
+		RowBands.carve(maze, random, pool, bandRows, BinaryTree::carveRows);
+
+		return maze;
+	}
+
+	/**
+	 * Carves one cell per step, through the same bands as {@link #prepareMaze(Grid, RandomSource)}
+	 */
+	@Override
+	public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		GenerationMetrics metrics = new GenerationMetrics(maze, this, listener);
+		metrics.start();
+		metrics.enterPhase(GenerationPhase.CARVE);
+
+		return RowBands.stepwise(maze, random, pool, bandRows, metrics, (band, row, column, rowState) -> {
+			carveCell(band, row, column);
+			return 0;
+		});
+	}
+
+	private static void carveRows(RowBands.Band band) {
+		int columnSize = band.maze.getColumnSize();
 
 		//Iterate over cells
-		for (int x = 0; x < maze.getGrid().size(); x++) {
-			java.util.List<Cell> row = maze.getGrid().get(x);
-			for (Cell currentCell : row) {
-				//Get each North and East neighbor cell
-				Cell northN = currentCell.getNorth();
-				Cell eastN = currentCell.getEast();
-
-				if (null == northN) {
-					currentCell.link(eastN);
-				} else if (null == eastN) {
-					currentCell.link(northN);
-				} else {
-					//Flip a coin
-					int randomNumber = ThreadLocalRandom.current().nextInt(0, 2);
-					if (randomNumber == 0) {
-						//Heads you link to the north cell
-
-						currentCell.link(northN);
-					} else if (randomNumber == 1) {
-						//Tails you link to the east
-						currentCell.link(eastN);
-					}
-				}
+		for (int row = band.fromRow; row < band.toRow; row++) {
+			for (int column = 0; column < columnSize; column++) {
+				carveCell(band, row, column);
 			}
 		}
+	}
 
-		return maze;
+	private static void carveCell(RowBands.Band band, int row, int column) {
+		Grid maze = band.maze;
+
+		//Check for each North and East neighbor cell
+		boolean hasNorth = row > 0;
+		boolean hasEast = column < maze.getColumnSize() - 1;
+
+		if (!hasNorth) {
+			if (hasEast) {
+				maze.link(maze.indexOf(row, column), Direction.EAST);
+			}
+		} else if (!hasEast) {
+			band.linkNorth(row, column);
+		} else {
+			//Flip a coin
+			int randomNumber = band.random.nextInt(2);
+			if (randomNumber == 0) {
+				//Heads you link to the north cell
+				band.linkNorth(row, column);
+			} else {
+				//Tails you link to the east
+				maze.link(maze.indexOf(row, column), Direction.EAST);
+			}
+		}
 	}
 }
@@ -0,0 +1,103 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+/**
+ * Braids a maze by linking dead ends to a neighbor, adding loops so there is more than
+ * one way around. Used on a perfect maze from any {@link GeneratorAlgorithm}.
+ * <p>
+ * The dead ends are found in one scan and kept in a {@link DeadEndIndex}. Dead ends are
+ * then braided in random order, each one linked to a neighbor that is also a dead end
+ * when it has one, which removes two dead ends with one passage. Braiding takes linear
+ * time and two ints per cell.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class Braider {
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final double deadEndFraction;
+
+	/**
+	 * @param deadEndFraction - fraction of the dead ends to remove, from 0 to 1
+	 */
+	public Braider(double deadEndFraction) {
+		if (!(deadEndFraction >= 0 && deadEndFraction <= 1)) {
+			throw new IllegalArgumentException("Dead end fraction must be between 0 and 1");
+		}
+		this.deadEndFraction = deadEndFraction;
+	}
+
+	/**
+	 * Braids a maze with the grid's own random source
+	 *
+	 * @return - the number of dead ends removed
+	 */
+	public int braid(Grid maze) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		return braid(maze, maze.getRandomSource());
+	}
+
+	/**
+	 * Links dead ends to their neighbors until the fraction of them is removed. A dead end
+	 * with no unlinked neighbor, the end of a maze one cell wide, cannot be braided.
+	 *
+	 * @param maze   - a carved maze, it is changed in place
+	 * @param random - source of every random choice
+	 * @return - the number of dead ends removed
+	 */
+	public int braid(Grid maze, RandomSource random) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+
+		DeadEndIndex deadEnds = new DeadEndIndex(maze);
+		int target = (int) Math.round(deadEnds.size() * deadEndFraction);
+		int removed = 0;
+		Direction[] candidates = new Direction[DIRECTIONS.length];
+
+		while (removed < target && deadEnds.size() > 0) {
+			int deadEnd = deadEnds.pickRandom(random);
+			deadEnds.remove(deadEnd);
+
+			//Unlinked neighbors, dead ends first
+			int candidateCount = 0;
+			int deadEndCount = 0;
+			for (Direction direction : DIRECTIONS) {
+				int neighbor = maze.getNeighbor(deadEnd, direction);
+				if (neighbor == Grid.NO_CELL || maze.isLinked(deadEnd, direction)) {
+					continue;
+				}
+				if (deadEnds.contains(neighbor)) {
+					candidates[candidateCount++] = candidates[deadEndCount];
+					candidates[deadEndCount++] = direction;
+				} else {
+					candidates[candidateCount++] = direction;
+				}
+			}
+			if (candidateCount == 0) {
+				continue;
+			}
+
+			int choices = deadEndCount > 0 ? deadEndCount : candidateCount;
+			Direction direction = candidates[random.nextInt(choices)];
+			int neighbor = maze.getNeighbor(deadEnd, direction);
+			maze.link(deadEnd, direction);
+			removed++;
+			if (deadEnds.contains(neighbor)) {
+				deadEnds.remove(neighbor);
+				removed++;
+			}
+		}
+
+		return removed;
+	}
+}
@@ -0,0 +1,65 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+/**
+ * The dead ends of a maze, cells with exactly one link, kept as a set of cell indices
+ * that supports constant time removal and random picks. Adding links only ever turns
+ * dead ends into ordinary cells, so the set is built once and only shrinks as cells
+ * are linked.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class DeadEndIndex {
+	//Dead end cells in no particular order
+	private final int[] cells;
+	//Position of each cell in the set plus one, zero when absent
+	private final int[] positions;
+	private int size = 0;
+
+	/**
+	 * Finds every dead end in a single scan of the maze
+	 */
+	DeadEndIndex(Grid maze) {
+		this.positions = new int[maze.getSize()];
+		int count = 0;
+		for (int index = 0; index < maze.getSize(); index++) {
+			if (maze.getLinkCount(index) == 1) {
+				count++;
+			}
+		}
+		this.cells = new int[count];
+		for (int index = 0; index < maze.getSize(); index++) {
+			if (maze.getLinkCount(index) == 1) {
+				cells[size++] = index;
+				positions[index] = size;
+			}
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean contains(int index) {
+		return positions[index] != 0;
+	}
+
+	int pickRandom(RandomSource random) {
+		return cells[random.nextInt(size)];
+	}
+
+	//Swaps the last cell into the removed cell's slot, does nothing for a cell not in the set
+	void remove(int index) {
+		int position = positions[index] - 1;
+		if (position < 0) {
+			return;
+		}
+		int last = cells[--size];
+		cells[position] = last;
+		positions[last] = position + 1;
+		positions[index] = 0;
+	}
+}
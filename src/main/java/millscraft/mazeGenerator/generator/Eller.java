@@ -0,0 +1,259 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Eller's algorithm builds a maze one row at a time, only remembering which set each
+ * cell of the current row belongs to. Mazes can be streamed row by row in memory
+ * proportional to their width, however many rows they have.
+ * <p>
+ * Cells in different sets are joined to the east at random, then every set carries on
+ * into the next row through at least one passage to the south. The last row joins every
+ * remaining set.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class Eller implements GeneratorAlgorithm {
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random) {
+		return prepareMaze(maze, random, GenerationListener.NONE);
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener).run();
+	}
+
+	@Override
+	public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener);
+	}
+
+	private Generation start(Grid maze, RandomSource random, GenerationListener listener) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		return new Generation(maze, rows(maze.getColumnSize(), maze.getRowSize(), random), new GenerationMetrics(maze, this, listener));
+	}
+
+	/**
+	 * Generates a maze row by row, handing each finished row to the consumer.
+	 * The row object is reused, see {@link MazeRow#copy()}.
+	 *
+	 * @param columnSize - width of the maze
+	 * @param rowSize    - height of the maze
+	 * @param random     - source of every random choice
+	 * @param rowConsumer - receives each finished row in order
+	 */
+	public void generate(int columnSize, long rowSize, RandomSource random, Consumer<MazeRow> rowConsumer) {
+		if (null == rowConsumer) {
+			throw new IllegalArgumentException("Row consumer cannot be null");
+		}
+		Iterator<MazeRow> rows = rows(columnSize, rowSize, random);
+		while (rows.hasNext()) {
+			rowConsumer.accept(rows.next());
+		}
+	}
+
+	/**
+	 * Generates a maze lazily, one row per call to {@link Iterator#next()}.
+	 * The row object is reused, see {@link MazeRow#copy()}.
+	 *
+	 * @param columnSize - width of the maze
+	 * @param rowSize    - height of the maze
+	 * @param random     - source of every random choice
+	 * @return - an iterator over the rows of the maze
+	 */
+	public Iterator<MazeRow> rows(int columnSize, long rowSize, RandomSource random) {
+		if (columnSize < 1 || rowSize < 1) {
+			throw new IllegalArgumentException("Maze dimensions must be positive");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		return new RowIterator(columnSize, rowSize, random);
+	}
+
+	//A step is one row, copied into the grid
+	private static class Generation extends AbstractStepwiseGeneration {
+		private final Iterator<MazeRow> rows;
+		private final GenerationMetrics metrics;
+		private int rowsCarved = 0;
+
+		private Generation(Grid maze, Iterator<MazeRow> rows, GenerationMetrics metrics) {
+			super(maze, metrics);
+			this.rows = rows;
+			this.metrics = metrics;
+			metrics.start();
+			metrics.enterPhase(GenerationPhase.CARVE);
+		}
+
+		@Override
+		void step() {
+			MazeRow mazeRow = rows.next();
+			int index = maze.indexOf(rowsCarved, 0);
+			for (int column = 0; column < maze.getColumnSize(); column++, index++) {
+				if (mazeRow.isLinked(column, Direction.EAST)) {
+					maze.link(index, Direction.EAST);
+				}
+				if (mazeRow.isLinked(column, Direction.SOUTH)) {
+					maze.link(index, Direction.SOUTH);
+				}
+				metrics.visit();
+			}
+			rowsCarved++;
+		}
+
+		@Override
+		public boolean isComplete() {
+			return !rows.hasNext();
+		}
+
+		@Override
+		public double getProgress() {
+			return (double) rowsCarved / maze.getRowSize();
+		}
+
+		//Links are only counted once every row is carved
+		@Override
+		void beforeFinish() {
+			metrics.countMaze();
+		}
+	}
+
+	private static class RowIterator implements Iterator<MazeRow> {
+		private final long rowSize;
+		private final RandomSource random;
+		private final MazeRow mazeRow;
+		private long nextRow = 0;
+		//Coin flips are taken 64 at a time from a single random long
+		private long coins;
+		private int coinsLeft = 0;
+
+		//Set of each column, always below the column count
+		private final int[] sets;
+		//Union-find over the sets of the current row
+		private final int[] parents;
+		//Cells of each set not yet given a chance to go south
+		private final int[] remaining;
+		private final boolean[] hasSouth;
+		private final boolean[] isUsed;
+
+		private RowIterator(int columnSize, long rowSize, RandomSource random) {
+			this.rowSize = rowSize;
+			this.random = random;
+			this.mazeRow = new MazeRow(columnSize);
+			this.sets = new int[columnSize];
+			this.parents = new int[columnSize];
+			this.remaining = new int[columnSize];
+			this.hasSouth = new boolean[columnSize];
+			this.isUsed = new boolean[columnSize];
+
+			//Every cell of the first row starts in its own set
+			for (int column = 0; column < columnSize; column++) {
+				sets[column] = column;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextRow < rowSize;
+		}
+
+		@Override
+		public MazeRow next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			mazeRow.advance(nextRow);
+			boolean isLastRow = nextRow == rowSize - 1;
+			int columnSize = sets.length;
+
+			for (int set = 0; set < columnSize; set++) {
+				parents[set] = set;
+			}
+
+			//Join neighbors in different sets, always on the last row
+			for (int column = 0; column < columnSize - 1; column++) {
+				int west = find(sets[column]);
+				int east = find(sets[column + 1]);
+				if (west != east && (isLastRow || flipCoin())) {
+					mazeRow.linkEast(column);
+					parents[east] = west;
+				}
+			}
+
+			if (!isLastRow) {
+				carveSouth(columnSize);
+			}
+			nextRow++;
+			return mazeRow;
+		}
+
+		//Every set goes south at least once, then the next row's cells get their sets
+		private void carveSouth(int columnSize) {
+			for (int column = 0; column < columnSize; column++) {
+				sets[column] = find(sets[column]);
+				remaining[column] = 0;
+				hasSouth[column] = false;
+				isUsed[column] = false;
+			}
+			for (int column = 0; column < columnSize; column++) {
+				remaining[sets[column]]++;
+			}
+
+			for (int column = 0; column < columnSize; column++) {
+				int set = sets[column];
+				remaining[set]--;
+				//The last cell of a set that has not gone south yet always does
+				if (flipCoin() || (remaining[set] == 0 && !hasSouth[set])) {
+					mazeRow.linkSouth(column);
+					hasSouth[set] = true;
+					isUsed[set] = true;
+				}
+			}
+
+			//Cells below a passage keep its set, the rest start new ones
+			int freeSet = 0;
+			for (int column = 0; column < columnSize; column++) {
+				if (!mazeRow.isLinked(column, Direction.SOUTH)) {
+					while (isUsed[freeSet]) {
+						freeSet++;
+					}
+					isUsed[freeSet] = true;
+					sets[column] = freeSet;
+				}
+			}
+		}
+
+		private boolean flipCoin() {
+			if (coinsLeft == 0) {
+				coins = random.nextLong();
+				coinsLeft = 64;
+			}
+			coinsLeft--;
+			boolean isHeads = (coins & 1) != 0;
+			coins >>>= 1;
+			return isHeads;
+		}
+
+		private int find(int set) {
+			while (parents[set] != set) {
+				parents[set] = parents[parents[set]];
+				set = parents[set];
+			}
+			return set;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Grid;
+
+/**
+ * Receives progress from a generator, see {@link GeneratorAlgorithm#prepareMaze(Grid, millscraft.mazeGenerator.random.RandomSource, GenerationListener)}.
+ * <p>
+ * Every method is called on the generating thread with the live metrics of the run.
+ * They are only valid during the call, copy any values that are needed later.
+ * Progress is reported every time another hundredth of the cells has been visited and
+ * every {@link GenerationMetrics#STEP_REPORT_INTERVAL} steps, so a walk that keeps
+ * crossing visited cells still reports.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public interface GenerationListener {
+	/**
+	 * Ignores every report. Generators skip all timing when given this listener.
+	 */
+	GenerationListener NONE = new GenerationListener() {
+	};
+
+	default void onStart(Grid maze, GeneratorAlgorithm algorithm) {
+	}
+
+	default void onProgress(GenerationMetrics metrics) {
+	}
+
+	default void onFinish(GenerationMetrics metrics) {
+	}
+}
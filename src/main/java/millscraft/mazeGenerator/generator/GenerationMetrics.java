@@ -0,0 +1,171 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+/**
+ * Counts the work of a single generator run and hands it to a {@link GenerationListener}.
+ * <p>
+ * Steps are moves of a random walk, links are passages carved and visited cells are
+ * cells added to the maze. Generators that do not report as they go only get their
+ * links and visited cells counted once they finish, and report no steps.
+ * Times are in nanoseconds and are only measured for a listener other than
+ * {@link GenerationListener#NONE}.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class GenerationMetrics {
+	/**
+	 * Steps between progress reports
+	 */
+	public static final long STEP_REPORT_INTERVAL = 1 << 20;
+
+	private static final GenerationPhase[] PHASES = GenerationPhase.values();
+
+	private final Grid maze;
+	private final GeneratorAlgorithm algorithm;
+	private final GenerationListener listener;
+	private final boolean isTimed;
+	private final int visitReportInterval;
+
+	private long steps = 0;
+	private long links = 0;
+	private int visitedCells = 0;
+	private long nextStepReport;
+	private int nextVisitReport;
+
+	private final long[] phaseNanos = new long[PHASES.length];
+	private GenerationPhase phase = null;
+	private long phaseStart;
+	private long startTime;
+	private long elapsedNanos = 0;
+
+	GenerationMetrics(Grid maze, GeneratorAlgorithm algorithm, GenerationListener listener) {
+		if (null == listener) {
+			throw new IllegalArgumentException("Generation listener cannot be null");
+		}
+		this.maze = maze;
+		this.algorithm = algorithm;
+		this.listener = listener;
+		this.isTimed = listener != GenerationListener.NONE;
+		this.visitReportInterval = Math.max(1, maze.getSize() / 100);
+		this.nextStepReport = isTimed ? STEP_REPORT_INTERVAL : Long.MAX_VALUE;
+		this.nextVisitReport = isTimed ? visitReportInterval : Integer.MAX_VALUE;
+	}
+
+	void start() {
+		if (isTimed) {
+			startTime = System.nanoTime();
+		}
+		listener.onStart(maze, algorithm);
+	}
+
+	void enterPhase(GenerationPhase nextPhase) {
+		if (isTimed && nextPhase != phase) {
+			long now = System.nanoTime();
+			if (phase != null) {
+				phaseNanos[phase.ordinal()] += now - phaseStart;
+			}
+			phase = nextPhase;
+			phaseStart = now;
+		}
+	}
+
+	void step() {
+		if (++steps >= nextStepReport) {
+			report();
+		}
+	}
+
+	void link() {
+		links++;
+	}
+
+	void visit() {
+		if (++visitedCells >= nextVisitReport) {
+			report();
+		}
+	}
+
+	//Counts the passages of a maze carved without reporting
+	void countMaze() {
+		links = 0;
+		for (int index = 0; index < maze.getSize(); index++) {
+			if (maze.isLinked(index, Direction.EAST)) {
+				links++;
+			}
+			if (maze.isLinked(index, Direction.SOUTH)) {
+				links++;
+			}
+		}
+		visitedCells = maze.getSize();
+	}
+
+	void finish() {
+		enterPhase(null);
+		updateElapsed();
+		listener.onFinish(this);
+	}
+
+	private void report() {
+		updateElapsed();
+		listener.onProgress(this);
+		nextStepReport = steps + STEP_REPORT_INTERVAL;
+		nextVisitReport = visitedCells + visitReportInterval;
+	}
+
+	private void updateElapsed() {
+		if (isTimed) {
+			elapsedNanos = System.nanoTime() - startTime;
+		}
+	}
+
+	public Grid getMaze() {
+		return maze;
+	}
+
+	public GeneratorAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	public long getSteps() {
+		return steps;
+	}
+
+	public long getLinks() {
+		return links;
+	}
+
+	public int getVisitedCells() {
+		return visitedCells;
+	}
+
+	/**
+	 * @return - the fraction of cells visited, from 0 to 1
+	 */
+	public double getProgress() {
+		return (double) visitedCells / maze.getSize();
+	}
+
+	/**
+	 * @return - the phase the generator is in, null before it starts one and once it is finished
+	 */
+	public GenerationPhase getPhase() {
+		return phase;
+	}
+
+	/**
+	 * @return - time since the run started, as of the latest report
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return - time spent in the phase, not counting the phase the generator is in
+	 */
+	public long getPhaseNanos(GenerationPhase phase) {
+		return phaseNanos[phase.ordinal()];
+	}
+}
@@ -0,0 +1,26 @@
+package millscraft.mazeGenerator.generator;
+
+/**
+ * The kinds of work a generator spends its time on, reported to a {@link GenerationListener}
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public enum GenerationPhase {
+	/**
+	 * Random walks that may cross cells already in the maze, Aldous-Broder and the walks of Wilson's algorithm
+	 */
+	WALK,
+	/**
+	 * Linking cells into the maze. Generators without distinct phases spend all their time here.
+	 */
+	CARVE,
+	/**
+	 * Searching for a new place to start carving from, the hunt of Hunt-and-Kill
+	 */
+	HUNT,
+	/**
+	 * Carving a walk through unvisited cells until it dead ends, the kill of Hunt-and-Kill
+	 */
+	KILL
+}
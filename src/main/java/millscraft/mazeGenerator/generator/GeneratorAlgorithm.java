@@ -1,14 +1,128 @@
 package millscraft.mazeGenerator.generator;
 
 import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
 
 /**
  * The interface for algorithms that generate a maze.
+ * <p>
+ * Implementations draw every random choice from the {@link RandomSource} they are
+ * given. Running the same algorithm over a new grid of the same size with a source
+ * seeded the same way always produces the same maze, so a maze can be rebuilt from
+ * its seed instead of being stored.
  *
  * @author Grant Mills
  * @since 3/9/18
  */
 public interface GeneratorAlgorithm {
 
-    Grid prepareMaze(Grid maze);
+    /**
+     * Generates a maze using the grid's own random source
+     *
+     * @param maze - an empty grid
+     * @return - the same grid with passages carved
+     */
+    default Grid prepareMaze(Grid maze) {
+        if (null == maze) {
+            throw new IllegalArgumentException("Maze grid cannot be null");
+        }
+        return prepareMaze(maze, maze.getRandomSource());
+    }
+
+    /**
+     * @param maze   - an empty grid
+     * @param random - source of every random choice made by the algorithm
+     * @return - the same grid with passages carved
+     */
+    Grid prepareMaze(Grid maze, RandomSource random);
+
+    /**
+     * Generates a maze while reporting to a listener. Algorithms that do not report as
+     * they carve get one report when they start and one, with their links and visited
+     * cells counted, when they finish.
+     *
+     * @param maze     - an empty grid
+     * @param random   - source of every random choice made by the algorithm
+     * @param listener - receives the progress of the run
+     * @return - the same grid with passages carved
+     */
+    default Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+        if (null == maze) {
+            throw new IllegalArgumentException("Maze grid cannot be null");
+        }
+        GenerationMetrics metrics = new GenerationMetrics(maze, this, listener);
+        metrics.start();
+        metrics.enterPhase(GenerationPhase.CARVE);
+        prepareMaze(maze, random);
+        metrics.countMaze();
+        metrics.finish();
+        return maze;
+    }
+
+    /**
+     * Starts generating a maze a few steps at a time with the grid's own random source
+     *
+     * @param maze - an empty grid
+     * @return - the generation, nothing is carved until it is advanced
+     */
+    default StepwiseGeneration stepwise(Grid maze) {
+        if (null == maze) {
+            throw new IllegalArgumentException("Maze grid cannot be null");
+        }
+        return stepwise(maze, maze.getRandomSource());
+    }
+
+    /**
+     * Starts generating a maze a few steps at a time
+     *
+     * @param maze   - an empty grid
+     * @param random - source of every random choice made by the algorithm
+     * @return - the generation, nothing is carved until it is advanced
+     */
+    default StepwiseGeneration stepwise(Grid maze, RandomSource random) {
+        return stepwise(maze, random, GenerationListener.NONE);
+    }
+
+    /**
+     * Starts generating a maze a few steps at a time while reporting to a listener.
+     * Algorithms that cannot stop part way carve the whole maze in their first step,
+     * through {@link #prepareMaze(Grid, RandomSource, GenerationListener)}.
+     *
+     * @param maze     - an empty grid
+     * @param random   - source of every random choice made by the algorithm
+     * @param listener - receives the progress of the run, finishing when the maze is complete
+     * @return - the generation, nothing is carved until it is advanced
+     */
+    default StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+        if (null == maze) {
+            throw new IllegalArgumentException("Maze grid cannot be null");
+        }
+        if (null == random) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        if (null == listener) {
+            throw new IllegalArgumentException("Generation listener cannot be null");
+        }
+        GeneratorAlgorithm algorithm = this;
+        //prepareMaze reports to the listener itself
+        return new AbstractStepwiseGeneration(maze, new GenerationMetrics(maze, this, GenerationListener.NONE)) {
+            private boolean isCarved = false;
+
+            @Override
+            void step() {
+                algorithm.prepareMaze(maze, random, listener);
+                isCarved = true;
+            }
+
+            @Override
+            public boolean isComplete() {
+                return isCarved;
+            }
+
+            @Override
+            public double getProgress() {
+                return isCarved ? 1 : 0;
+            }
+        };
+    }
 }
@@ -0,0 +1,202 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+/**
+ * The Growing Tree algorithm keeps a list of active cells, carves from one of them into
+ * an unvisited neighbor and adds that neighbor to the list. Cells with no unvisited
+ * neighbors leave the list. Which active cell is carved from decides the maze's
+ * character, see {@link CellSelection}.
+ * <p>
+ * The active list is a single int array as large as the grid, used as a stack, so no
+ * maze is too deep to generate and nothing else is allocated however large the grid.
+ * Cells picked from the middle of the list are marked removed rather than shifted out,
+ * keeping the list in the order cells were added, and the list is compacted once half
+ * of it is marked. Every pick takes amortized constant time.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class GrowingTree implements GeneratorAlgorithm {
+
+	/**
+	 * How the next active cell is picked
+	 */
+	public enum CellSelection {
+		/**
+		 * Always the most recently added cell, the recursive backtracker. Long winding
+		 * passages with few dead ends.
+		 */
+		NEWEST,
+		/**
+		 * Any active cell at random, much like Prim's algorithm. Short passages and
+		 * many dead ends.
+		 */
+		RANDOM,
+		/**
+		 * The newest cell with the given chance, otherwise a random one
+		 */
+		MIXED
+	}
+
+	private final CellSelection cellSelection;
+	private final double newestChance;
+
+	public GrowingTree() {
+		this(CellSelection.NEWEST);
+	}
+
+	/**
+	 * @param cellSelection - NEWEST or RANDOM, MIXED picks either with even chances
+	 */
+	public GrowingTree(CellSelection cellSelection) {
+		this(cellSelection, 0.5);
+	}
+
+	/**
+	 * @param cellSelection - how the next active cell is picked
+	 * @param newestChance  - chance of picking the newest cell for MIXED, from 0 to 1
+	 */
+	public GrowingTree(CellSelection cellSelection, double newestChance) {
+		if (null == cellSelection) {
+			throw new IllegalArgumentException("Cell selection cannot be null");
+		}
+		if (!(newestChance >= 0 && newestChance <= 1)) {
+			throw new IllegalArgumentException("Newest chance must be between 0 and 1");
+		}
+		this.cellSelection = cellSelection;
+		this.newestChance = newestChance;
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random) {
+		return prepareMaze(maze, random, GenerationListener.NONE);
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener).run();
+	}
+
+	@Override
+	public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+		return start(maze, random, listener);
+	}
+
+	private Generation start(Grid maze, RandomSource random, GenerationListener listener) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		return new Generation(maze, random, new GenerationMetrics(maze, this, listener));
+	}
+
+	//A step is one pick of an active cell
+	private class Generation extends AbstractStepwiseGeneration {
+		private final RandomSource random;
+		private final GenerationMetrics metrics;
+		//Every cell is added once, so the list never outgrows the grid. The last slot is never a removed cell.
+		private final int[] active;
+		private int activeSize = 0;
+		private int removedCount = 0;
+		private int visitedCells = 1;
+
+		private Generation(Grid maze, RandomSource random, GenerationMetrics metrics) {
+			super(maze, metrics);
+			this.random = random;
+			this.metrics = metrics;
+			this.active = new int[maze.getSize()];
+			metrics.start();
+			metrics.enterPhase(GenerationPhase.CARVE);
+
+			int first = maze.getRandomCell(random).getIndex();
+			maze.setVisited(first, true);
+			active[activeSize++] = first;
+			metrics.visit();
+		}
+
+		@Override
+		void step() {
+			int position = pick();
+			int cell = active[position];
+			Direction next = maze.getRandomNeighborDirection(cell, false, random);
+			metrics.step();
+
+			if (next == null) {
+				remove(position);
+				return;
+			}
+
+			int neighbor = maze.getNeighbor(cell, next);
+			maze.link(cell, next);
+			maze.setVisited(neighbor, true);
+			active[activeSize++] = neighbor;
+			visitedCells++;
+			metrics.link();
+			metrics.visit();
+		}
+
+		private int pick() {
+			switch (cellSelection) {
+				case NEWEST:
+					return activeSize - 1;
+				case RANDOM:
+					return pickRandom();
+				default:
+					return random.nextDouble() < newestChance ? activeSize - 1 : pickRandom();
+			}
+		}
+
+		//At most half the list is removed cells, so this takes two tries on average
+		private int pickRandom() {
+			int position = random.nextInt(activeSize);
+			while (active[position] == Grid.NO_CELL) {
+				position = random.nextInt(activeSize);
+			}
+			return position;
+		}
+
+		private void remove(int position) {
+			if (position < activeSize - 1) {
+				active[position] = Grid.NO_CELL;
+				removedCount++;
+				if (removedCount * 2 > activeSize) {
+					compact();
+				}
+				return;
+			}
+
+			//Drop the last cell and any removed cells beneath it
+			activeSize--;
+			while (activeSize > 0 && active[activeSize - 1] == Grid.NO_CELL) {
+				activeSize--;
+				removedCount--;
+			}
+		}
+
+		private void compact() {
+			int kept = 0;
+			for (int position = 0; position < activeSize; position++) {
+				if (active[position] != Grid.NO_CELL) {
+					active[kept++] = active[position];
+				}
+			}
+			activeSize = kept;
+			removedCount = 0;
+		}
+
+		@Override
+		public boolean isComplete() {
+			return activeSize == 0;
+		}
+
+		@Override
+		public double getProgress() {
+			return isComplete() ? 1 : (double) visitedCells / maze.getSize();
+		}
+	}
+}
@@ -1,48 +1,236 @@
 package millscraft.mazeGenerator.generator;
 
-import millscraft.mazeGenerator.Cell;
+import millscraft.mazeGenerator.Direction;
 import millscraft.mazeGenerator.Grid;
-
-import java.util.Optional;
+import millscraft.mazeGenerator.random.RandomSource;
 
 /**
+ * Hunt-and-Kill carves a random walk through unvisited cells until it dead ends,
+ * then hunts for an unvisited cell that borders the visited part of the maze and
+ * starts a new walk from there.
+ *
  * @author Grant Mills
  * @since 4/10/18
  */
 public class HuntAndKill implements GeneratorAlgorithm {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * How a new starting point is found once a walk dead ends
+     */
+    public enum HuntStrategy {
+        /**
+         * Scan the grid row by row for the first unvisited cell with a visited neighbor.
+         * The scan resumes from a cursor at the first unvisited cell instead of row 0,
+         * which keeps the classic hunt order at close to linear total cost.
+         */
+        CURSOR,
+        /**
+         * Keep an index of the unvisited cells that border visited ones and hunt a
+         * random one of them. Constant time per hunt, at the cost of two ints per cell.
+         */
+        FRONTIER
+    }
+
+    private final HuntStrategy huntStrategy;
+
+    public HuntAndKill() {
+        this(HuntStrategy.CURSOR);
+    }
+
+    public HuntAndKill(HuntStrategy huntStrategy) {
+        if (null == huntStrategy) {
+            throw new IllegalArgumentException("Hunt strategy cannot be null");
+        }
+        this.huntStrategy = huntStrategy;
+    }
+
+    @Override
+    public Grid prepareMaze(Grid maze, RandomSource random) {
+        return prepareMaze(maze, random, GenerationListener.NONE);
+    }
 
     @Override
-    public Grid prepareMaze(Grid maze) {
-        Cell current = maze.getRandomCell();
-        current.setVisited(true);
+    public Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+        return start(maze, random, listener).run();
+    }
 
-        while (current != null) {
-            Optional<Cell> possibleNeighbor = current.getRandomUnvisitedNeighbor();
+    @Override
+    public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+        return start(maze, random, listener);
+    }
+
+    private Generation start(Grid maze, RandomSource random, GenerationListener listener) {
+        if (null == maze) {
+            throw new IllegalArgumentException("Maze grid cannot be null");
+        }
+        if (null == random) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        Hunter hunter = huntStrategy == HuntStrategy.FRONTIER ? new FrontierHunter(maze) : new CursorHunter(maze);
+        return new Generation(maze, random, hunter, new GenerationMetrics(maze, this, listener));
+    }
+
+    //A step is one move of a walk or one hunt
+    private static class Generation extends AbstractStepwiseGeneration {
+        private final RandomSource random;
+        private final Hunter hunter;
+        private final GenerationMetrics metrics;
+        private int current;
+        private int visitedCells = 1;
+
+        private Generation(Grid maze, RandomSource random, Hunter hunter, GenerationMetrics metrics) {
+            super(maze, metrics);
+            this.random = random;
+            this.hunter = hunter;
+            this.metrics = metrics;
+            metrics.start();
+            metrics.enterPhase(GenerationPhase.KILL);
+
+            this.current = maze.getRandomCell(random).getIndex();
+            hunter.visit(current);
+            metrics.visit();
+        }
+
+        @Override
+        void step() {
+            Direction next = maze.getRandomNeighborDirection(current, false, random);
 
             //Link to a random unvisited neighbor
-            if (possibleNeighbor.isPresent()) {
-                current.link(possibleNeighbor.get());
-                current = possibleNeighbor.get();
-                current.setVisited(true);
+            if (next != null) {
+                maze.link(current, next);
+                current = maze.getNeighbor(current, next);
+                hunter.visit(current);
+                visitedCells++;
+                metrics.step();
+                metrics.link();
+                metrics.visit();
             } else {
-                current = null;
-
                 //Hunt for a new starting point where an unvisited cell has a
                 //visited neighbor and link them.
-                for (int x = 0; x < maze.getGrid().size(); x++) {
-                    java.util.List<Cell> row = maze.getGrid().get(x);
-                    for (Cell potentialNewStartingCell : row) {
-                        Optional<Cell> potentialNewStartingCellVisitedNeighbor = potentialNewStartingCell.getRandomVisitedNeighbor();
-                        if (!potentialNewStartingCell.hasBeenVisited() && potentialNewStartingCellVisitedNeighbor.isPresent()) {
-                            current = potentialNewStartingCell;
-                            current.setVisited(true);
-                            current.link(potentialNewStartingCellVisitedNeighbor.get());
-                        }
-                    }
+                metrics.enterPhase(GenerationPhase.HUNT);
+                current = hunter.hunt(random);
+                metrics.enterPhase(GenerationPhase.KILL);
+                if (current != Grid.NO_CELL) {
+                    maze.link(current, maze.getRandomNeighborDirection(current, true, random));
+                    hunter.visit(current);
+                    visitedCells++;
+                    metrics.link();
+                    metrics.visit();
                 }
             }
         }
 
-        return maze;
+        //The last hunt finds no cell
+        @Override
+        public boolean isComplete() {
+            return current == Grid.NO_CELL;
+        }
+
+        @Override
+        public double getProgress() {
+            return isComplete() ? 1 : (double) visitedCells / maze.getSize();
+        }
+    }
+
+    private static boolean hasVisitedNeighbor(Grid maze, int index) {
+        for (Direction direction : DIRECTIONS) {
+            int neighbor = maze.getNeighbor(index, direction);
+            if (neighbor != Grid.NO_CELL && maze.isVisited(neighbor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private interface Hunter {
+        //Marks a cell as visited
+        void visit(int index);
+
+        //Returns an unvisited cell with a visited neighbor, or NO_CELL when the maze is complete
+        int hunt(RandomSource random);
+    }
+
+    private static class CursorHunter implements Hunter {
+        private final Grid maze;
+        private int cursor = 0;
+        private int lowestVisited;
+
+        private CursorHunter(Grid maze) {
+            this.maze = maze;
+            this.lowestVisited = maze.getSize();
+        }
+
+        @Override
+        public void visit(int index) {
+            maze.setVisited(index, true);
+            lowestVisited = Math.min(lowestVisited, index);
+        }
+
+        @Override
+        public int hunt(RandomSource random) {
+            //Every cell before the cursor has been visited
+            while (cursor < maze.getSize() && maze.isVisited(cursor)) {
+                cursor++;
+            }
+
+            //Once the cursor is past cell 0 its cell borders a visited cell to the west or north.
+            //Until then no cell more than a row ahead of the lowest visited cell can border one.
+            int scan = Math.max(cursor, lowestVisited - maze.getColumnSize());
+            for (; scan < maze.getSize(); scan++) {
+                if (!maze.isVisited(scan) && hasVisitedNeighbor(maze, scan)) {
+                    return scan;
+                }
+            }
+            return Grid.NO_CELL;
+        }
+    }
+
+    private static class FrontierHunter implements Hunter {
+        private final Grid maze;
+        //Unvisited cells bordering visited ones, in no particular order
+        private final int[] frontier;
+        //Position of each cell in the frontier plus one, zero when absent
+        private final int[] positions;
+        private int frontierSize = 0;
+
+        private FrontierHunter(Grid maze) {
+            this.maze = maze;
+            this.frontier = new int[maze.getSize()];
+            this.positions = new int[maze.getSize()];
+        }
+
+        @Override
+        public void visit(int index) {
+            maze.setVisited(index, true);
+            remove(index);
+            for (Direction direction : DIRECTIONS) {
+                int neighbor = maze.getNeighbor(index, direction);
+                if (neighbor != Grid.NO_CELL && !maze.isVisited(neighbor) && positions[neighbor] == 0) {
+                    frontier[frontierSize++] = neighbor;
+                    positions[neighbor] = frontierSize;
+                }
+            }
+        }
+
+        @Override
+        public int hunt(RandomSource random) {
+            if (frontierSize == 0) {
+                return Grid.NO_CELL;
+            }
+            return frontier[random.nextInt(frontierSize)];
+        }
+
+        //Swaps the last frontier cell into the removed cell's slot
+        private void remove(int index) {
+            int position = positions[index] - 1;
+            if (position < 0) {
+                return;
+            }
+            int last = frontier[--frontierSize];
+            frontier[position] = last;
+            positions[last] = position + 1;
+            positions[index] = 0;
+        }
     }
 }
@@ -0,0 +1,92 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+/**
+ * Loop-erased random walks into the visited part of a maze, the building block of
+ * Wilson's algorithm.
+ * <p>
+ * A walk only remembers the direction it last left every cell in. Walking back into
+ * a cell overwrites that direction, which erases the loop without ever searching the
+ * path, so every step takes constant time. Walks are taken one step at a time.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+class LoopErasedWalk {
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final Grid maze;
+	//Direction the walk last left each cell in, as a Direction ordinal
+	private final byte[] exits;
+	private int start;
+	private int current;
+	private boolean isWalking = false;
+	private boolean isCarving = false;
+
+	LoopErasedWalk(Grid maze) {
+		this.maze = maze;
+		this.exits = new byte[maze.getSize()];
+	}
+
+	/**
+	 * Starts a walk from an unvisited cell, taken with {@link #step(RandomSource, GenerationMetrics)}
+	 * until it hits a visited cell and its loop-erased path is linked into the maze
+	 *
+	 * @param start   - index of an unvisited cell
+	 * @param metrics - counts the walk's steps and links
+	 */
+	void begin(int start, GenerationMetrics metrics) {
+		this.start = start;
+		this.current = start;
+		this.isWalking = true;
+		this.isCarving = false;
+		metrics.enterPhase(GenerationPhase.WALK);
+	}
+
+	/**
+	 * @return - true until the walk's path has been linked into the maze
+	 */
+	boolean isActive() {
+		return isWalking || isCarving;
+	}
+
+	/**
+	 * Takes a step of the walk or links a cell of its loop-erased path
+	 *
+	 * @return - the number of cells added to the maze, 0 or 1
+	 */
+	int step(RandomSource random, GenerationMetrics metrics) {
+		if (isWalking) {
+			//Walk the path until we hit a visited cell
+			if (!maze.isVisited(current)) {
+				Direction exit = maze.getRandomNeighborDirection(current, random);
+				exits[current] = (byte) exit.ordinal();
+				current = maze.getNeighbor(current, exit);
+				metrics.step();
+				return 0;
+			}
+
+			//Then follow the remembered exits from the start
+			isWalking = false;
+			isCarving = true;
+			current = start;
+			metrics.enterPhase(GenerationPhase.CARVE);
+		}
+
+		//Link the loop-erased path until it meets the maze
+		if (maze.isVisited(current)) {
+			isCarving = false;
+			return 0;
+		}
+		Direction exit = DIRECTIONS[exits[current]];
+		maze.setVisited(current, true);
+		maze.link(current, exit);
+		metrics.visit();
+		metrics.link();
+		current = maze.getNeighbor(current, exit);
+		return 1;
+	}
+}
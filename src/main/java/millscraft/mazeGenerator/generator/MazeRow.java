@@ -0,0 +1,86 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+
+import java.util.Arrays;
+
+/**
+ * A single finished row of a maze that is generated one row at a time.
+ * Passages to the north lead into the previous row and passages to the south
+ * into the next one.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class MazeRow {
+	private long row;
+	private final boolean[] north;
+	private final boolean[] south;
+	private final boolean[] east;
+
+	MazeRow(int columnSize) {
+		this.north = new boolean[columnSize];
+		this.south = new boolean[columnSize];
+		this.east = new boolean[columnSize];
+	}
+
+	private MazeRow(MazeRow other) {
+		this.row = other.row;
+		this.north = other.north.clone();
+		this.south = other.south.clone();
+		this.east = other.east.clone();
+	}
+
+	public long getRow() {
+		return row;
+	}
+
+	public int getColumnSize() {
+		return east.length;
+	}
+
+	/**
+	 * @param column    - a column of the row
+	 * @param direction - direction of the passage
+	 * @return - true if the cell has a passage in the given direction
+	 */
+	public boolean isLinked(int column, Direction direction) {
+		switch (direction) {
+			case NORTH:
+				return north[column];
+			case SOUTH:
+				return south[column];
+			case EAST:
+				return east[column];
+			case WEST:
+				return column > 0 && east[column - 1];
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Rows handed out while streaming are reused for the next row, copy one to keep it
+	 *
+	 * @return - a copy of this row
+	 */
+	public MazeRow copy() {
+		return new MazeRow(this);
+	}
+
+	//Moves on to the next row, this row's southern passages become its northern ones
+	void advance(long nextRow) {
+		row = nextRow;
+		System.arraycopy(south, 0, north, 0, south.length);
+		Arrays.fill(south, false);
+		Arrays.fill(east, false);
+	}
+
+	void linkEast(int column) {
+		east[column] = true;
+	}
+
+	void linkSouth(int column) {
+		south[column] = true;
+	}
+}
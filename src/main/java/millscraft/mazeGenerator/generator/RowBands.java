@@ -0,0 +1,216 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Support for generators that carve each row using only that row and the row above,
+ * so bands of rows can be carved on separate threads.
+ * <p>
+ * Bands start on multiples of {@link Grid#ROW_BAND_ALIGNMENT} rows so no two bands share
+ * a word of grid storage. The only writes that cross into another band are north links
+ * out of a band's first row, those are recorded while the band is carved and linked once
+ * every band is done. Each band draws from its own random stream, seeded from the maze's
+ * source, so the result depends on the seed and band height but not the thread count.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class RowBands {
+	static final int DEFAULT_BAND_ROWS = 256;
+
+	private RowBands() {
+	}
+
+	interface RowCarver {
+		void carve(Band band);
+	}
+
+	interface CellCarver {
+		/**
+		 * Carves a single cell of a band
+		 *
+		 * @param rowState - what was returned for the cell to the west, 0 for the first cell of a row
+		 * @return - the state handed to the cell to the east
+		 */
+		int carve(Band band, int row, int column, int rowState);
+	}
+
+	/**
+	 * Carves every row of the maze, on the pool's threads when one is given
+	 *
+	 * @param maze     - an empty grid
+	 * @param random   - source of the band seeds, or of every choice when carving sequentially
+	 * @param pool     - pool to carve bands on, null to carve on the calling thread
+	 * @param bandRows - rows per band, rounded up to a multiple of {@link Grid#ROW_BAND_ALIGNMENT}
+	 * @param carver   - carves the rows of a single band
+	 */
+	static void carve(Grid maze, RandomSource random, ForkJoinPool pool, int bandRows, RowCarver carver) {
+		Band[] bands = split(maze, random, pool, bandRows, true);
+		if (bands.length == 1) {
+			carver.carve(bands[0]);
+			return;
+		}
+
+		pool.invoke(new BandTask(bands, 0, bands.length, carver));
+
+		for (Band band : bands) {
+			band.linkDeferred();
+		}
+	}
+
+	/**
+	 * Starts carving the maze one cell per step, through the same bands and random streams
+	 * as {@link #carve} so the maze is the same one
+	 *
+	 * @param metrics - a started run, counted a visit per cell
+	 * @param carver  - carves a single cell
+	 */
+	static StepwiseGeneration stepwise(Grid maze, RandomSource random, ForkJoinPool pool, int bandRows, GenerationMetrics metrics, CellCarver carver) {
+		return new Generation(split(maze, random, pool, bandRows, false), metrics, carver);
+	}
+
+	//The bands carve would use, a single band of every row when carving sequentially
+	private static Band[] split(Grid maze, RandomSource random, ForkJoinPool pool, int bandRows, boolean isDeferring) {
+		int alignedBandRows = alignBandRows(bandRows);
+		if (pool == null || maze.getRowSize() <= alignedBandRows) {
+			return new Band[]{new Band(maze, 0, maze.getRowSize(), random, false)};
+		}
+
+		RandomSource bandSeeds = RandomSource.seeded(random.nextLong());
+		Band[] bands = new Band[(maze.getRowSize() + alignedBandRows - 1) / alignedBandRows];
+		for (int i = 0; i < bands.length; i++) {
+			int fromRow = i * alignedBandRows;
+			int toRow = Math.min(fromRow + alignedBandRows, maze.getRowSize());
+			bands[i] = new Band(maze, fromRow, toRow, RandomSource.seeded(bandSeeds.nextLong()), isDeferring && fromRow > 0);
+		}
+		return bands;
+	}
+
+	static int alignBandRows(int bandRows) {
+		if (bandRows < 1) {
+			throw new IllegalArgumentException("Band rows must be positive");
+		}
+		int alignment = Grid.ROW_BAND_ALIGNMENT;
+		long alignedRows = (bandRows + (long) alignment - 1) / alignment * alignment;
+		return (int) Math.min(alignedRows, Integer.MAX_VALUE / alignment * alignment);
+	}
+
+	/**
+	 * A range of rows carved by a single thread
+	 */
+	static final class Band {
+		final Grid maze;
+		final int fromRow;
+		final int toRow;
+		final RandomSource random;
+		private final int[] deferredColumns;
+		private int deferredCount = 0;
+
+		private Band(Grid maze, int fromRow, int toRow, RandomSource random, boolean isDeferringFirstRow) {
+			this.maze = maze;
+			this.fromRow = fromRow;
+			this.toRow = toRow;
+			this.random = random;
+			this.deferredColumns = isDeferringFirstRow ? new int[maze.getColumnSize()] : null;
+		}
+
+		/**
+		 * Links a cell in this band to its northern neighbor, which may belong to the band above
+		 *
+		 * @param row    - a row of this band
+		 * @param column - a column of the maze
+		 */
+		void linkNorth(int row, int column) {
+			if (deferredColumns != null && row == fromRow) {
+				deferredColumns[deferredCount++] = column;
+			} else {
+				maze.link(maze.indexOf(row, column), Direction.NORTH);
+			}
+		}
+
+		private void linkDeferred() {
+			for (int i = 0; i < deferredCount; i++) {
+				maze.link(maze.indexOf(fromRow, deferredColumns[i]), Direction.NORTH);
+			}
+		}
+	}
+
+	//Bands are carved in order, so north links out of a band can be made right away
+	private static class Generation extends AbstractStepwiseGeneration {
+		private final Band[] bands;
+		private final GenerationMetrics metrics;
+		private final CellCarver carver;
+		private int band = 0;
+		private int nextCell = 0;
+		private int rowState = 0;
+
+		private Generation(Band[] bands, GenerationMetrics metrics, CellCarver carver) {
+			super(bands[0].maze, metrics);
+			this.bands = bands;
+			this.metrics = metrics;
+			this.carver = carver;
+		}
+
+		@Override
+		void step() {
+			int row = maze.rowOf(nextCell);
+			int column = maze.columnOf(nextCell);
+			if (row == bands[band].toRow) {
+				band++;
+			}
+			if (column == 0) {
+				rowState = 0;
+			}
+			rowState = carver.carve(bands[band], row, column, rowState);
+			nextCell++;
+			metrics.visit();
+		}
+
+		@Override
+		public boolean isComplete() {
+			return nextCell == maze.getSize();
+		}
+
+		@Override
+		public double getProgress() {
+			return (double) nextCell / maze.getSize();
+		}
+
+		//Links are only counted once every cell is carved
+		@Override
+		void beforeFinish() {
+			metrics.countMaze();
+		}
+	}
+
+	private static class BandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Band[] bands;
+		private final int from;
+		private final int to;
+		private final RowCarver carver;
+
+		private BandTask(Band[] bands, int from, int to, RowCarver carver) {
+			this.bands = bands;
+			this.from = from;
+			this.to = to;
+			this.carver = carver;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				carver.carve(bands[from]);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new BandTask(bands, from, middle, carver), new BandTask(bands, middle, to, carver));
+			}
+		}
+	}
+}
@@ -1,67 +1,121 @@
 package millscraft.mazeGenerator.generator;
 
-import millscraft.mazeGenerator.Cell;
+import millscraft.mazeGenerator.Direction;
 import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The Sidewinder algorithm creates mazes with long horizontal tunnels.
  * Its bias creates an empty row at the top and a mostly empty column on
  * the right side of the maze.
+ * <p>
+ * Given a {@link ForkJoinPool} the rows are carved in parallel bands, see {@link RowBands}.
  *
  * @author Grant Mills
  * @since 3/9/18
  */
 public class Sidewinder implements GeneratorAlgorithm {
+	private final ForkJoinPool pool;
+	private final int bandRows;
 
+	public Sidewinder() {
+		this(null, RowBands.DEFAULT_BAND_ROWS);
+	}
+
+	/**
+	 * @param pool - pool to carve bands of rows on
+	 */
+	public Sidewinder(ForkJoinPool pool) {
+		this(pool, RowBands.DEFAULT_BAND_ROWS);
+	}
+
+	/**
+	 * @param pool     - pool to carve bands of rows on, null to carve on the calling thread
+	 * @param bandRows - rows per band, rounded up to a multiple of {@link Grid#ROW_BAND_ALIGNMENT}
+	 */
+	public Sidewinder(ForkJoinPool pool, int bandRows) {
+		this.pool = pool;
+		this.bandRows = RowBands.alignBandRows(bandRows);
+	}
+
+	@Override
+	public Grid prepareMaze(Grid maze, RandomSource random) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+
+		RowBands.carve(maze, random, pool, bandRows, Sidewinder::carveRows);
+
+		return maze;
+	}
+
+	/**
+	 * Carves one cell per step, through the same bands as {@link #prepareMaze(Grid, RandomSource)}
+	 */
 	@Override
-	public Grid prepareMaze(Grid maze) {
+	public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
 		if (null == maze) {
 			throw new IllegalArgumentException("Maze grid cannot be null");
 		}
+		if (null == random) {
+			throw new IllegalArgumentException("Random source cannot be null");
+		}
+		GenerationMetrics metrics = new GenerationMetrics(maze, this, listener);
+		metrics.start();
+		metrics.enterPhase(GenerationPhase.CARVE);
+
+		return RowBands.stepwise(maze, random, pool, bandRows, metrics, Sidewinder::carveCell);
+	}
+
+	private static void carveRows(RowBands.Band band) {
+		int columnSize = band.maze.getColumnSize();
 
 		//Iterate over cells
-		for (int x = 0; x < maze.getGrid().size(); x++) {
-			List<Cell> row = maze.getGrid().get(x);
-
-			List<Cell> grouping = new ArrayList<>();
-			for (Cell currentCell : row) {
-				Cell eastN = currentCell.getEast();
-				Cell northN = currentCell.getNorth();
-				// If we're at the top of the maze we always select east
-				if (null == northN) {
-					currentCell.link(eastN);
-				} else {
-					//Add current cell to grouping
-					grouping.add(currentCell);
-					// Flip a coin
-					int randomInt = ThreadLocalRandom.current().nextInt(0, 2);
-					// Heads we go east
-					if (randomInt == 0) {
-						// If we've hit the eastern edge of the maze then pick north
-						// This prevents inaccessible cells
-						if (null == eastN) {
-							currentCell.link(northN);
-							grouping.clear();
-						} else {
-							currentCell.link(eastN);
-						}
-					} else if (randomInt == 1) {
-						// Tails we go north on a random cell in the grouping
-						int randomInt2 = ThreadLocalRandom.current().nextInt(0, grouping.size());
-						Cell randomCellFromGrouping = grouping.get(randomInt2);
-						//Link the randomly selected cell's northern neighbor
-						randomCellFromGrouping.link(randomCellFromGrouping.getNorth());
-						// Clear group
-						grouping.clear();
-					}
-				}
+		for (int row = band.fromRow; row < band.toRow; row++) {
+			//The grouping is always the run of cells from its first column to the current one
+			int groupingStart = 0;
+			for (int column = 0; column < columnSize; column++) {
+				groupingStart = carveCell(band, row, column, groupingStart);
+			}
+		}
+	}
+
+	//Returns the first column of the grouping the next cell joins
+	private static int carveCell(RowBands.Band band, int row, int column, int groupingStart) {
+		Grid maze = band.maze;
+		boolean hasEast = column < maze.getColumnSize() - 1;
+		// If we're at the top of the maze we always select east
+		if (row == 0) {
+			if (hasEast) {
+				maze.link(maze.indexOf(row, column), Direction.EAST);
 			}
+			return groupingStart;
 		}
 
-		return maze;
+		// Flip a coin
+		int randomInt = band.random.nextInt(2);
+		// Heads we go east
+		if (randomInt == 0) {
+			// If we've hit the eastern edge of the maze then pick north
+			// This prevents inaccessible cells
+			if (!hasEast) {
+				band.linkNorth(row, column);
+				return column + 1;
+			}
+			maze.link(maze.indexOf(row, column), Direction.EAST);
+			return groupingStart;
+		}
+
+		// Tails we go north on a random cell in the grouping
+		int randomColumn = groupingStart + band.random.nextInt(column - groupingStart + 1);
+		//Link the randomly selected cell's northern neighbor
+		band.linkNorth(row, randomColumn);
+		// Clear group
+		return column + 1;
 	}
 }
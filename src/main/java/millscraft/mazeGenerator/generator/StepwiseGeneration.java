@@ -0,0 +1,50 @@
+package millscraft.mazeGenerator.generator;
+
+import millscraft.mazeGenerator.Grid;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A maze being generated a little at a time, so the work can be spread over many short
+ * calls, such as one per server tick. Resuming never changes the result, a maze advanced
+ * in any number of calls is the maze {@link GeneratorAlgorithm#prepareMaze(Grid)} would carve
+ * from the same random source.
+ * <p>
+ * What a step is depends on the algorithm, a cell or a row for the row by row algorithms
+ * and a move for the ones that walk. Instances are not thread safe.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public interface StepwiseGeneration {
+
+	/**
+	 * Takes up to the given number of steps
+	 *
+	 * @param maxSteps - most steps to take
+	 * @return - the fraction of the maze generated, 1 once it is complete
+	 */
+	double advance(long maxSteps);
+
+	/**
+	 * Takes steps until the time budget is spent. The clock is checked every few steps,
+	 * so the budget can be overrun by a few steps.
+	 *
+	 * @param budget - time to spend
+	 * @param unit   - unit of the budget
+	 * @return - the fraction of the maze generated, 1 once it is complete
+	 */
+	double advance(long budget, TimeUnit unit);
+
+	boolean isComplete();
+
+	/**
+	 * @return - the fraction of the maze generated, 1 once it is complete
+	 */
+	double getProgress();
+
+	/**
+	 * @return - the maze being carved, only a perfect maze once generation is complete
+	 */
+	Grid getMaze();
+}
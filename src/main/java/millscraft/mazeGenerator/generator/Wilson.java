@@ -1,70 +1,84 @@
 package millscraft.mazeGenerator.generator;
 
-import millscraft.mazeGenerator.Cell;
 import millscraft.mazeGenerator.Grid;
-
-import java.util.ArrayList;
-import java.util.Iterator;
+import millscraft.mazeGenerator.random.RandomSource;
 
 /**
+ * Wilson's algorithm builds an unbiased maze out of loop-erased random walks.
+ * Every step of a walk takes constant time, see {@link LoopErasedWalk}.
+ * Walks start from the unvisited cells in index order, the order walks start
+ * in does not bias the result.
+ *
  * @author Grant Mills
  * @since 4/4/18
  */
 public class Wilson implements GeneratorAlgorithm {
 
     @Override
-    public Grid prepareMaze(Grid maze) {
-        //Get starting cell and begin count of unvisited cells
-        Cell startingCell = maze.getRandomCell();
-        startingCell.setVisited(true);
-        int cellsUnvisited = maze.getSize() - 1;
+    public Grid prepareMaze(Grid maze, RandomSource random) {
+        return prepareMaze(maze, random, GenerationListener.NONE);
+    }
 
-        while (cellsUnvisited > 0) {
-            Cell currentPathCell = maze.getRandomUnvisitedCell();
-            ArrayList<Cell> path = new ArrayList<>();
-            path.add(currentPathCell);
+    @Override
+    public Grid prepareMaze(Grid maze, RandomSource random, GenerationListener listener) {
+        return start(maze, random, listener).run();
+    }
 
-            //Walk the path until we hit a visited cell
-            while (!currentPathCell.hasBeenVisited()) {
-                currentPathCell = currentPathCell.getRandomNeighbor();
-                //If the neighbor is already in the path then
-                //erase the loop
-                if (path.contains(currentPathCell)) {
-                    int index = path.indexOf(currentPathCell);
-                    int pathSize = path.size();
-                    if (pathSize > index + 1) {
-                        path.subList(index + 1, pathSize).clear();
-                    }
-                } else {
-                    path.add(currentPathCell);
-                }
-            }
+    @Override
+    public StepwiseGeneration stepwise(Grid maze, RandomSource random, GenerationListener listener) {
+        return start(maze, random, listener);
+    }
 
-            //Link the path cells
-            Iterator<Cell> it = path.iterator();
-            if (it.hasNext()) {
-                Cell previous = it.next();
-                previous.setVisited(true);
-                cellsUnvisited -= 1;
+    private Generation start(Grid maze, RandomSource random, GenerationListener listener) {
+        if (null == maze) {
+            throw new IllegalArgumentException("Maze grid cannot be null");
+        }
+        if (null == random) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        return new Generation(maze, random, new GenerationMetrics(maze, this, listener));
+    }
 
-                while (it.hasNext()) {
-                    Cell current = it.next();
+    //A step is one move of a walk or one cell of its path linked into the maze
+    private static class Generation extends AbstractStepwiseGeneration {
+        private final RandomSource random;
+        private final GenerationMetrics metrics;
+        private final LoopErasedWalk walk;
+        private int cellsUnvisited;
+        private int nextStart = 0;
 
-                    //Link, set as visited, and decrement unvisited count
-                    previous.link(current);
+        private Generation(Grid maze, RandomSource random, GenerationMetrics metrics) {
+            super(maze, metrics);
+            this.random = random;
+            this.metrics = metrics;
+            this.walk = new LoopErasedWalk(maze);
+            metrics.start();
 
-                    //Set as visited and decrement unvisited count unless its the last cell
-                    //in the path, which has already been visited
-                    if (it.hasNext()) {
-                        current.setVisited(true);
-                        cellsUnvisited -= 1;
-                    }
+            //Get starting cell and begin count of unvisited cells
+            maze.setVisited(maze.getRandomCell(random).getIndex(), true);
+            metrics.visit();
+            this.cellsUnvisited = maze.getSize() - 1;
+        }
 
-                    previous = current;
+        @Override
+        void step() {
+            if (!walk.isActive()) {
+                while (maze.isVisited(nextStart)) {
+                    nextStart++;
                 }
+                walk.begin(nextStart, metrics);
             }
+            cellsUnvisited -= walk.step(random, metrics);
         }
 
-        return maze;
+        @Override
+        public boolean isComplete() {
+            return cellsUnvisited == 0;
+        }
+
+        @Override
+        public double getProgress() {
+            return 1 - (double) cellsUnvisited / maze.getSize();
+        }
     }
 }
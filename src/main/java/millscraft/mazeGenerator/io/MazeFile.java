@@ -0,0 +1,27 @@
+package millscraft.mazeGenerator.io;
+
+import millscraft.mazeGenerator.Grid;
+
+/**
+ * A maze loaded by {@link MazeReader} together with its header
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class MazeFile {
+	private final MazeHeader header;
+	private final Grid maze;
+
+	MazeFile(MazeHeader header, Grid maze) {
+		this.header = header;
+		this.maze = maze;
+	}
+
+	public MazeHeader getHeader() {
+		return header;
+	}
+
+	public Grid getMaze() {
+		return maze;
+	}
+}
@@ -0,0 +1,35 @@
+package millscraft.mazeGenerator.io;
+
+/**
+ * Layout of the binary maze format, all numbers big endian:
+ * <pre>
+ * magic       4 bytes   "MAZE"
+ * version     2 bytes   currently 1
+ * rowSize     8 bytes
+ * columnSize  4 bytes
+ * flags       1 byte    bit 0 set when a seed is stored
+ * seed        8 bytes   zero when no seed is stored
+ * algorithm   modified UTF-8, as written by DataOutput.writeUTF
+ * rows        rowSize rows of (columnSize + 3) / 4 bytes
+ * </pre>
+ * Each cell of a row takes two bits, starting from the low bits of the row's first byte.
+ * The low bit is the passage to the cell's east and the high bit the passage to its south,
+ * the same two passages a {@link millscraft.mazeGenerator.Grid} stores for each cell.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class MazeFormat {
+	static final int MAGIC = 0x4D415A45;
+	static final int VERSION = 1;
+	static final int FLAG_SEED = 1;
+	static final int EAST_BIT = 1;
+	static final int SOUTH_BIT = 2;
+
+	private MazeFormat() {
+	}
+
+	static int getRowBytes(int columnSize) {
+		return (columnSize + 3) >>> 2;
+	}
+}
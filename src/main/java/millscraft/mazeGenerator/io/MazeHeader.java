@@ -0,0 +1,49 @@
+package millscraft.mazeGenerator.io;
+
+import java.util.OptionalLong;
+
+/**
+ * Describes a maze stored in the binary maze format: its size, the algorithm
+ * that carved it and, when the writer knew it, the seed it was carved from.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class MazeHeader {
+	private final long rowSize;
+	private final int columnSize;
+	private final String algorithm;
+	private final Long seed;
+
+	/**
+	 * @param rowSize    - height of the maze
+	 * @param columnSize - width of the maze
+	 * @param algorithm  - describes the algorithm that carved the maze and its settings, may be empty
+	 * @param seed       - seed the maze was carved from, null if it is not known
+	 */
+	public MazeHeader(long rowSize, int columnSize, String algorithm, Long seed) {
+		if (rowSize < 1 || columnSize < 1) {
+			throw new IllegalArgumentException("Maze dimensions must be positive");
+		}
+		this.rowSize = rowSize;
+		this.columnSize = columnSize;
+		this.algorithm = algorithm != null ? algorithm : "";
+		this.seed = seed;
+	}
+
+	public long getRowSize() {
+		return rowSize;
+	}
+
+	public int getColumnSize() {
+		return columnSize;
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public OptionalLong getSeed() {
+		return seed != null ? OptionalLong.of(seed) : OptionalLong.empty();
+	}
+}
@@ -0,0 +1,94 @@
+package millscraft.mazeGenerator.io;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads mazes written by {@link MazeWriter}. The stream is read up to the end of
+ * the maze and is not closed.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class MazeReader {
+
+	private MazeReader() {
+	}
+
+	/**
+	 * Reads a maze into a grid. A seeded maze gets a random source with the stored seed.
+	 *
+	 * @param in - stream positioned at the start of a maze
+	 * @return - the header and the maze
+	 * @throws IOException - if the stream ends early or does not hold a maze this version can read
+	 */
+	public static MazeFile read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(in);
+		MazeHeader header = readHeader(data);
+		if (header.getRowSize() > Integer.MAX_VALUE
+				|| header.getRowSize() * header.getColumnSize() > Integer.MAX_VALUE) {
+			throw new IOException("Maze of " + header.getRowSize() + " by " + header.getColumnSize() + " cells is too large for a grid");
+		}
+
+		int rowSize = (int) header.getRowSize();
+		int columnSize = header.getColumnSize();
+		RandomSource random = header.getSeed().isPresent()
+				? RandomSource.seeded(header.getSeed().getAsLong())
+				: RandomSource.threadLocal();
+		Grid maze = new Grid(rowSize, columnSize, random);
+
+		byte[] rowBytes = new byte[MazeFormat.getRowBytes(columnSize)];
+		for (int row = 0; row < rowSize; row++) {
+			data.readFully(rowBytes);
+			int rowStart = maze.indexOf(row, 0);
+			for (int i = 0; i < rowBytes.length; i++) {
+				//Only bytes holding a passage need to be looked at
+				int bits = rowBytes[i] & 0xFF;
+				while (bits != 0) {
+					int bit = Integer.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+					int column = (i << 2) + (bit >>> 1);
+					Direction direction = (bit & 1) == 0 ? Direction.EAST : Direction.SOUTH;
+					if (column >= columnSize || maze.getNeighbor(rowStart + column, direction) == Grid.NO_CELL) {
+						throw new IOException("Corrupt maze, passage leads out of the grid at row:" + row + " col:" + column);
+					}
+					maze.link(rowStart + column, direction);
+				}
+			}
+		}
+
+		return new MazeFile(header, maze);
+	}
+
+	/**
+	 * Reads only the header, leaving the stream at the first row of the maze
+	 *
+	 * @param in - stream positioned at the start of a maze
+	 * @return - the header
+	 */
+	public static MazeHeader readHeader(InputStream in) throws IOException {
+		DataInputStream data = in instanceof DataInputStream ? (DataInputStream) in : new DataInputStream(in);
+		if (data.readInt() != MazeFormat.MAGIC) {
+			throw new IOException("Not a maze file");
+		}
+		int version = data.readUnsignedShort();
+		if (version != MazeFormat.VERSION) {
+			throw new IOException("Unsupported maze file version " + version);
+		}
+		long rowSize = data.readLong();
+		int columnSize = data.readInt();
+		int flags = data.readUnsignedByte();
+		long seed = data.readLong();
+		String algorithm = data.readUTF();
+		if (rowSize < 1 || columnSize < 1) {
+			throw new IOException("Corrupt maze, dimensions must be positive");
+		}
+
+		return new MazeHeader(rowSize, columnSize, algorithm, (flags & MazeFormat.FLAG_SEED) != 0 ? seed : null);
+	}
+}
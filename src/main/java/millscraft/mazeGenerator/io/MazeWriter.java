@@ -0,0 +1,146 @@
+package millscraft.mazeGenerator.io;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.generator.MazeRow;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Writes a maze in the binary maze format one row at a time, see {@link MazeFormat}.
+ * Rows can come from a {@link Grid} or straight from a streaming generator such as
+ * {@link millscraft.mazeGenerator.generator.Eller}, so a maze never has to be held in memory
+ * to be saved. The stream is flushed but not closed.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class MazeWriter {
+	private final DataOutputStream out;
+	private final MazeHeader header;
+	private final byte[] rowBytes;
+	private long rowsWritten = 0;
+
+	/**
+	 * Writes the header
+	 *
+	 * @param out    - stream the maze is written to
+	 * @param header - the maze about to be written
+	 */
+	public MazeWriter(OutputStream out, MazeHeader header) throws IOException {
+		if (null == out) {
+			throw new IllegalArgumentException("Output stream cannot be null");
+		}
+		if (null == header) {
+			throw new IllegalArgumentException("Maze header cannot be null");
+		}
+		this.out = new DataOutputStream(out);
+		this.header = header;
+		this.rowBytes = new byte[MazeFormat.getRowBytes(header.getColumnSize())];
+
+		this.out.writeInt(MazeFormat.MAGIC);
+		this.out.writeShort(MazeFormat.VERSION);
+		this.out.writeLong(header.getRowSize());
+		this.out.writeInt(header.getColumnSize());
+		this.out.writeByte(header.getSeed().isPresent() ? MazeFormat.FLAG_SEED : 0);
+		this.out.writeLong(header.getSeed().orElse(0));
+		this.out.writeUTF(header.getAlgorithm());
+	}
+
+	/**
+	 * Writes a whole maze. Only the caller knows how the maze was carved, a grid's own
+	 * random source may not be the one it was carved from or may have been drawn from
+	 * since, so the seed and algorithm are given rather than read from the grid.
+	 *
+	 * @param maze      - a maze
+	 * @param algorithm - describes the algorithm that carved the maze and its settings
+	 *                  so it can be run again, such as "HuntAndKill(FRONTIER)", null if unknown
+	 * @param seed      - seed of the random source the maze was carved from, null if unknown
+	 * @param out       - stream the maze is written to
+	 */
+	public static void write(Grid maze, String algorithm, Long seed, OutputStream out) throws IOException {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+
+		MazeWriter writer = new MazeWriter(out, new MazeHeader(maze.getRowSize(), maze.getColumnSize(), algorithm, seed));
+		for (int row = 0; row < maze.getRowSize(); row++) {
+			writer.writeRow(maze, row);
+		}
+		writer.finish();
+	}
+
+	/**
+	 * Writes the next row from a grid, rows must be written in order
+	 *
+	 * @param maze - a maze with the header's dimensions
+	 * @param row  - the row to write, the number of rows written so far
+	 */
+	public void writeRow(Grid maze, int row) throws IOException {
+		checkRow(maze.getColumnSize());
+		if (row != rowsWritten) {
+			throw new IllegalArgumentException("Row " + row + " given, row " + rowsWritten + " is next");
+		}
+		Arrays.fill(rowBytes, (byte) 0);
+		int index = maze.indexOf(row, 0);
+		for (int column = 0; column < maze.getColumnSize(); column++, index++) {
+			int passages = 0;
+			if (maze.isLinked(index, Direction.EAST)) {
+				passages |= MazeFormat.EAST_BIT;
+			}
+			if (maze.isLinked(index, Direction.SOUTH)) {
+				passages |= MazeFormat.SOUTH_BIT;
+			}
+			rowBytes[column >>> 2] |= passages << ((column & 3) << 1);
+		}
+		writeRowBytes();
+	}
+
+	/**
+	 * Writes the next row from a streaming generator
+	 *
+	 * @param mazeRow - a row with the header's width
+	 */
+	public void writeRow(MazeRow mazeRow) throws IOException {
+		checkRow(mazeRow.getColumnSize());
+		Arrays.fill(rowBytes, (byte) 0);
+		for (int column = 0; column < mazeRow.getColumnSize(); column++) {
+			int passages = 0;
+			if (mazeRow.isLinked(column, Direction.EAST)) {
+				passages |= MazeFormat.EAST_BIT;
+			}
+			if (mazeRow.isLinked(column, Direction.SOUTH)) {
+				passages |= MazeFormat.SOUTH_BIT;
+			}
+			rowBytes[column >>> 2] |= passages << ((column & 3) << 1);
+		}
+		writeRowBytes();
+	}
+
+	/**
+	 * Flushes the maze once every row has been written
+	 */
+	public void finish() throws IOException {
+		if (rowsWritten != header.getRowSize()) {
+			throw new IllegalStateException("Only " + rowsWritten + " of " + header.getRowSize() + " rows were written");
+		}
+		out.flush();
+	}
+
+	private void checkRow(int columnSize) {
+		if (columnSize != header.getColumnSize()) {
+			throw new IllegalArgumentException("Row has " + columnSize + " columns, the maze has " + header.getColumnSize());
+		}
+		if (rowsWritten >= header.getRowSize()) {
+			throw new IllegalStateException("All " + header.getRowSize() + " rows have been written");
+		}
+	}
+
+	private void writeRowBytes() throws IOException {
+		out.write(rowBytes);
+		rowsWritten++;
+	}
+}
@@ -0,0 +1,51 @@
+package millscraft.mazeGenerator.random;
+
+/**
+ * The source of every random choice made while generating and rendering a maze.
+ * A seeded source makes generation reproducible, so a maze can be rebuilt from
+ * its seed instead of being stored.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public interface RandomSource {
+
+	/**
+	 * @param bound - exclusive upper bound, must be positive
+	 * @return - a uniformly distributed value between 0 (inclusive) and bound (exclusive)
+	 */
+	int nextInt(int bound);
+
+	long nextLong();
+
+	default boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	/**
+	 * @return - a uniformly distributed value between 0.0 (inclusive) and 1.0 (exclusive)
+	 */
+	default double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	/**
+	 * A reproducible source. Two sources created with the same seed produce the
+	 * same sequence of values on every platform.
+	 *
+	 * @param seed - any long
+	 * @return - {@link SeededRandomSource}
+	 */
+	static RandomSource seeded(long seed) {
+		return new SeededRandomSource(seed);
+	}
+
+	/**
+	 * An unseeded source backed by {@link java.util.concurrent.ThreadLocalRandom}
+	 *
+	 * @return - {@link ThreadLocalRandomSource}
+	 */
+	static RandomSource threadLocal() {
+		return ThreadLocalRandomSource.INSTANCE;
+	}
+}
@@ -0,0 +1,57 @@
+package millscraft.mazeGenerator.random;
+
+/**
+ * A reproducible {@link RandomSource} using the SplitMix64 generator.
+ * The algorithm is implemented here rather than borrowed from the JDK so the
+ * sequence for a seed never changes between Java versions.
+ * Instances are not thread safe.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class SeededRandomSource implements RandomSource {
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final long seed;
+	private long state;
+
+	public SeededRandomSource(long seed) {
+		this.seed = seed;
+		this.state = seed;
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("Bound must be positive");
+		}
+
+		int random = (int) (nextLong() >>> 33);
+		int mask = bound - 1;
+		if ((bound & mask) == 0) {
+			//Power of two, take the high bits
+			return (int) ((bound * (long) random) >> 31);
+		}
+
+		//Reject values from the incomplete final bucket so every result is equally likely
+		for (int candidate = random; candidate - (random = candidate % bound) + mask < 0; ) {
+			candidate = (int) (nextLong() >>> 33);
+		}
+		return random;
+	}
+
+	@Override
+	public long nextLong() {
+		return mix64(state += GOLDEN_GAMMA);
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	static long mix64(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+}
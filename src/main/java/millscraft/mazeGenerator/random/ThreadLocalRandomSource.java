@@ -0,0 +1,36 @@
+package millscraft.mazeGenerator.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The default, unseeded {@link RandomSource}. Safe to share between threads.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+	static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+	private ThreadLocalRandomSource() {
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return ThreadLocalRandom.current().nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return ThreadLocalRandom.current().nextBoolean();
+	}
+
+	@Override
+	public double nextDouble() {
+		return ThreadLocalRandom.current().nextDouble();
+	}
+}
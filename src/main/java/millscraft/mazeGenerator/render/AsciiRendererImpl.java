@@ -0,0 +1,107 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Streams a maze to a writer as text, one row of cells at a time
+ * <pre>
+ * +---+---+
+ * |       |
+ * +---+   +
+ * </pre>
+ * Entrances and exits are the same cells {@link ImageRendererImpl} would open for the
+ * same random source. Only the line being written is held in memory.
+ * The writer is flushed but not closed.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class AsciiRendererImpl implements Renderer<Writer> {
+
+	private static final String WALL = "---";
+	private static final String OPEN = "   ";
+	private final Writer writer;
+
+	/**
+	 * @param writer - writer every rendered maze is written to
+	 */
+	public AsciiRendererImpl(Writer writer) {
+		if (writer == null) {
+			throw new IllegalArgumentException("Writer cannot be null");
+		}
+		this.writer = writer;
+	}
+
+	@Override
+	public Writer render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		List<MazeOpening> openings = MazeOpening.choose(maze, startSide, endSide, maze.getRandomSource());
+
+		try {
+			BufferedWriter out = new BufferedWriter(writer);
+			writeText(maze, openings, out);
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Maze text could not be written", e);
+		}
+
+		return writer;
+	}
+
+	private void writeText(Grid maze, List<MazeOpening> openings, Writer out) throws IOException {
+		int columnSize = maze.getColumnSize();
+		StringBuilder line = new StringBuilder(columnSize * 4 + 2);
+
+		//Top wall
+		line.append('+');
+		for (int column = 0; column < columnSize; column++) {
+			line.append(isOpening(openings, 0, column, Direction.NORTH) ? OPEN : WALL).append('+');
+		}
+		writeLine(out, line);
+
+		for (int row = 0; row < maze.getRowSize(); row++) {
+			int index = maze.indexOf(row, 0);
+			line.append(isOpening(openings, row, 0, Direction.WEST) ? ' ' : '|');
+			for (int column = 0; column < columnSize; column++) {
+				boolean isOpen = column < columnSize - 1
+						? maze.isLinked(index + column, Direction.EAST)
+						: isOpening(openings, row, column, Direction.EAST);
+				line.append(OPEN).append(isOpen ? ' ' : '|');
+			}
+			writeLine(out, line);
+
+			line.append('+');
+			for (int column = 0; column < columnSize; column++) {
+				boolean isOpen = row < maze.getRowSize() - 1
+						? maze.isLinked(index + column, Direction.SOUTH)
+						: isOpening(openings, row, column, Direction.SOUTH);
+				line.append(isOpen ? OPEN : WALL).append('+');
+			}
+			writeLine(out, line);
+		}
+	}
+
+	private static boolean isOpening(List<MazeOpening> openings, int row, int column, Direction wall) {
+		for (MazeOpening opening : openings) {
+			if (opening.getRow() == row && opening.getColumn() == column && opening.getWall() == wall) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void writeLine(Writer out, StringBuilder line) throws IOException {
+		line.append('\n');
+		out.append(line);
+		line.setLength(0);
+	}
+}
@@ -0,0 +1,175 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The walls of a maze as runs of blocks, ready for bulk fill operations.
+ * <p>
+ * Walls that continue in a straight line are merged into a single run, and every run
+ * reaches over the corners at both of its ends, so crossing runs overlap on their
+ * corner blocks. The plan is computed lazily from the maze each time it is iterated,
+ * one grid line of rows at a time, holding no more than a few ints per column. The
+ * runs of each horizontal grid line come out together with the vertical runs ending
+ * on it, so a world can be carved from north to south while the plan is iterated.
+ * The maze must not change while the plan is in use.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class BlockPlan implements Iterable<WallRun> {
+	private final Grid maze;
+	private final List<MazeOpening> openings;
+	private final int cellWidth;
+	private final int wallWidth;
+
+	BlockPlan(Grid maze, List<MazeOpening> openings, int cellWidth, int wallWidth) {
+		this.maze = maze;
+		this.openings = openings;
+		this.cellWidth = cellWidth;
+		this.wallWidth = wallWidth;
+	}
+
+	public Grid getMaze() {
+		return maze;
+	}
+
+	public int getCellWidth() {
+		return cellWidth;
+	}
+
+	public int getWallWidth() {
+		return wallWidth;
+	}
+
+	/**
+	 * @return - blocks the maze covers along x, outer walls included
+	 */
+	public long getSizeX() {
+		return (long) maze.getColumnSize() * (cellWidth + wallWidth) + wallWidth;
+	}
+
+	/**
+	 * @return - blocks the maze covers along z, outer walls included
+	 */
+	public long getSizeZ() {
+		return (long) maze.getRowSize() * (cellWidth + wallWidth) + wallWidth;
+	}
+
+	/**
+	 * @return - runs in grid line order, from the north wall to the south wall
+	 */
+	@Override
+	public Iterator<WallRun> iterator() {
+		return new RunIterator();
+	}
+
+	private class RunIterator implements Iterator<WallRun> {
+		private final int pitch = cellWidth + wallWidth;
+		//Row each vertical grid line's open run started on, -1 when none is open
+		private final int[] runStarts;
+		private final List<WallRun> lineRuns;
+		private int nextRun = 0;
+		private int nextLine = 0;
+
+		private RunIterator() {
+			this.runStarts = new int[maze.getColumnSize() + 1];
+			this.lineRuns = new ArrayList<>();
+			Arrays.fill(runStarts, -1);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (nextRun == lineRuns.size() && nextLine <= maze.getRowSize()) {
+				lineRuns.clear();
+				nextRun = 0;
+				planLine(nextLine++);
+			}
+			return nextRun < lineRuns.size();
+		}
+
+		@Override
+		public WallRun next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return lineRuns.get(nextRun++);
+		}
+
+		//Vertical runs that end on the grid line, then the walls along it
+		private void planLine(int line) {
+			int rowSize = maze.getRowSize();
+			int columnSize = maze.getColumnSize();
+
+			for (int verticalLine = 0; verticalLine <= columnSize; verticalLine++) {
+				boolean isWall = line < rowSize && isVerticalWall(line, verticalLine);
+				if (isWall && runStarts[verticalLine] < 0) {
+					runStarts[verticalLine] = line;
+				} else if (!isWall && runStarts[verticalLine] >= 0) {
+					addRun(verticalLine, runStarts[verticalLine], line, WallRun.Axis.Z);
+					runStarts[verticalLine] = -1;
+				}
+			}
+
+			int runStart = -1;
+			for (int column = 0; column <= columnSize; column++) {
+				boolean isWall = column < columnSize && isHorizontalWall(line, column);
+				if (isWall && runStart < 0) {
+					runStart = column;
+				} else if (!isWall && runStart >= 0) {
+					addRun(line, runStart, column, WallRun.Axis.X);
+					runStart = -1;
+				}
+			}
+		}
+
+		//Covers the cells from start up to end along a grid line, corners included
+		private void addRun(int line, int start, int end, WallRun.Axis axis) {
+			int across = line * pitch;
+			int along = start * pitch;
+			int length = (end - start) * pitch + wallWidth;
+			if (axis == WallRun.Axis.X) {
+				lineRuns.add(new WallRun(along, across, length, wallWidth, axis));
+			} else {
+				lineRuns.add(new WallRun(across, along, length, wallWidth, axis));
+			}
+		}
+
+		//Wall on the west side of a cell, or east of the last column
+		private boolean isVerticalWall(int row, int verticalLine) {
+			if (verticalLine == 0) {
+				return !isOpening(row, 0, Direction.WEST);
+			}
+			if (verticalLine == maze.getColumnSize()) {
+				return !isOpening(row, verticalLine - 1, Direction.EAST);
+			}
+			return !maze.isLinked(maze.indexOf(row, verticalLine - 1), Direction.EAST);
+		}
+
+		//Wall on the north side of a cell, or south of the last row
+		private boolean isHorizontalWall(int line, int column) {
+			if (line == 0) {
+				return !isOpening(0, column, Direction.NORTH);
+			}
+			if (line == maze.getRowSize()) {
+				return !isOpening(line - 1, column, Direction.SOUTH);
+			}
+			return !maze.isLinked(maze.indexOf(line - 1, column), Direction.SOUTH);
+		}
+	}
+
+	private boolean isOpening(int row, int column, Direction wall) {
+		for (MazeOpening opening : openings) {
+			if (opening.getRow() == row && opening.getColumn() == column && opening.getWall() == wall) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,60 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.util.List;
+
+/**
+ * Renders a maze as a {@link BlockPlan} of wall runs for placing in a block world.
+ * A maze needs a few runs per row instead of a block per wall voxel, so each run can
+ * be placed with a single bulk fill.
+ * <p>
+ * Entrances and exits are the same cells {@link ImageRendererImpl} would open for the
+ * same random source.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class BlockPlanRendererImpl implements Renderer<BlockPlan> {
+
+	private Integer cellWidth = 3;
+	private Integer wallWidth = 1;
+
+	public BlockPlanRendererImpl() {
+		this(null, null);
+	}
+
+	/**
+	 * Nulls use the default of 3 blocks per cell and 1 per wall
+	 *
+	 * @param cellWidth - blocks across the inside of a cell
+	 * @param wallWidth - blocks across a wall
+	 */
+	public BlockPlanRendererImpl(Integer cellWidth, Integer wallWidth) {
+		if (cellWidth != null) {
+			this.cellWidth = cellWidth;
+		}
+		if (wallWidth != null) {
+			this.wallWidth = wallWidth;
+		}
+		if (this.cellWidth < 1 || this.wallWidth < 1) {
+			throw new IllegalArgumentException("Cell and wall widths must be positive");
+		}
+	}
+
+	@Override
+	public BlockPlan render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		List<MazeOpening> openings = MazeOpening.choose(maze, startSide, endSide, maze.getRandomSource());
+
+		BlockPlan plan = new BlockPlan(maze, openings, cellWidth, wallWidth);
+		if (Math.max(plan.getSizeX(), plan.getSizeZ()) > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Maze is too large to place at " + cellWidth + " blocks per cell and "
+					+ wallWidth + " per wall");
+		}
+		return plan;
+	}
+}
@@ -0,0 +1,49 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.awt.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Renders a maze to the bytes of an indexed PNG, see {@link OutputStreamRendererImpl}.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class ByteArrayRendererImpl implements Renderer<byte[]> {
+
+	private final MazeRaster raster;
+
+	/**
+	 * Takes the same arguments and defaults as {@link ImageRendererImpl}, nulls use the default
+	 */
+	public ByteArrayRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor
+	) {
+		this.raster = new MazeRaster(cellSize, mazeBorder, wallThickness, backgroundColor, wallColor);
+	}
+
+	@Override
+	public byte[] render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		int[] openings = raster.chooseOpenings(maze, startSide, endSide, maze.getRandomSource());
+
+		ByteArrayOutputStream png = new ByteArrayOutputStream(8 * 1024);
+		try {
+			PngWriter.writeMaze(raster, maze, openings, png, true);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Maze image could not be written", e);
+		}
+		return png.toByteArray();
+	}
+}
@@ -0,0 +1,63 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.awt.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Renders a maze to an indexed PNG in a heap {@link ByteBuffer}, see {@link OutputStreamRendererImpl}.
+ * The buffer wraps the array the image was encoded into, it is not copied.
+ * Its position is 0 and its limit is the size of the image.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class ByteBufferRendererImpl implements Renderer<ByteBuffer> {
+
+	private final MazeRaster raster;
+
+	/**
+	 * Takes the same arguments and defaults as {@link ImageRendererImpl}, nulls use the default
+	 */
+	public ByteBufferRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor
+	) {
+		this.raster = new MazeRaster(cellSize, mazeBorder, wallThickness, backgroundColor, wallColor);
+	}
+
+	@Override
+	public ByteBuffer render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		int[] openings = raster.chooseOpenings(maze, startSide, endSide, maze.getRandomSource());
+
+		BufferOutputStream png = new BufferOutputStream();
+		try {
+			PngWriter.writeMaze(raster, maze, openings, png, true);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Maze image could not be written", e);
+		}
+		return png.toByteBuffer();
+	}
+
+	//Hands out its internal array instead of a copy
+	private static final class BufferOutputStream extends ByteArrayOutputStream {
+		private BufferOutputStream() {
+			super(8 * 1024);
+		}
+
+		private ByteBuffer toByteBuffer() {
+			return ByteBuffer.wrap(buf, 0, count).slice();
+		}
+	}
+}
@@ -13,7 +13,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
 
@@ -129,7 +128,7 @@ public class ImageRendererImpl implements Renderer<File> {
 			//Northern line
 			//Draw random start line over wall border with background color
 			List<Cell> topRow = maze.getGrid().get(0);
-			int randomCellValue = ThreadLocalRandom.current().nextInt(0, topRow.size() - 1);
+			int randomCellValue = maze.getRandomSource().nextInt(topRow.size() - 1);
 			Cell cell = topRow.get(randomCellValue);
 
 			//Draw opening line
@@ -140,7 +139,7 @@ public class ImageRendererImpl implements Renderer<File> {
 			for (List<Cell> cellList : maze.getGrid()) {
 				leftMostCells.add(cellList.get(0));
 			}
-			int randomCellValue = ThreadLocalRandom.current().nextInt(0, leftMostCells.size() - 1);
+			int randomCellValue = maze.getRandomSource().nextInt(leftMostCells.size() - 1);
 			Cell cell = leftMostCells.get(randomCellValue);
 
 			drawInteriorWall(graphics2D, cell, Direction.EAST);
@@ -149,7 +148,7 @@ public class ImageRendererImpl implements Renderer<File> {
 			//Ending Line
 			//Draw random end line over wall border with background color
 			List<Cell> bottomRow = maze.getGrid().get(maze.getRowSize() - 1);
-			int randomCellValue = ThreadLocalRandom.current().nextInt(0, bottomRow.size() - 1);
+			int randomCellValue = maze.getRandomSource().nextInt(bottomRow.size() - 1);
 			Cell cell = bottomRow.get(randomCellValue);
 
 			//Draw ending line
@@ -160,7 +159,7 @@ public class ImageRendererImpl implements Renderer<File> {
 			for (List<Cell> cellList : maze.getGrid()) {
 				rightMostCells.add(cellList.get(cellList.size() - 1));
 			}
-			int randomCellValue = ThreadLocalRandom.current().nextInt(0, rightMostCells.size() - 1);
+			int randomCellValue = maze.getRandomSource().nextInt(rightMostCells.size() - 1);
 			Cell cell = rightMostCells.get(randomCellValue);
 
 			drawInteriorWall(graphics2D, cell, Direction.WEST);
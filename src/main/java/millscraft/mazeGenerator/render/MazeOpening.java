@@ -0,0 +1,98 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An entrance or exit cut into the outer wall of a maze. Every renderer picks its
+ * openings here, so a maze rendered from the same seed opens in the same places
+ * whatever the output format.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class MazeOpening {
+	private final int row;
+	private final int column;
+	private final Direction wall;
+
+	private MazeOpening(int row, int column, Direction wall) {
+		this.row = row;
+		this.column = column;
+		this.wall = wall;
+	}
+
+	/**
+	 * Picks the entrance and exit cells the same way {@link ImageRendererImpl} does.
+	 * Openings on the east side are cut into the left edge of the maze and openings on
+	 * the west side into the right edge, as they always have been.
+	 *
+	 * @return - the openings in the order their random draws are made
+	 */
+	static List<MazeOpening> choose(Grid maze, Direction startSide, Direction endSide, RandomSource random) {
+		if (startSide.equals(endSide)) {
+			throw new IllegalArgumentException("Starting side and ending side cannot be the same.");
+		}
+
+		List<MazeOpening> openings = new ArrayList<>(2);
+		int lastRow = maze.getRowSize() - 1;
+		int lastColumn = maze.getColumnSize() - 1;
+
+		if (startSide.equals(Direction.NORTH) || endSide.equals(Direction.NORTH)) {
+			openings.add(new MazeOpening(0, random.nextInt(lastColumn), Direction.NORTH));
+		}
+		if (startSide.equals(Direction.EAST) || endSide.equals(Direction.EAST)) {
+			openings.add(new MazeOpening(random.nextInt(lastRow), 0, Direction.WEST));
+		}
+		if (startSide.equals(Direction.SOUTH) || endSide.equals(Direction.SOUTH)) {
+			openings.add(new MazeOpening(lastRow, random.nextInt(lastColumn), Direction.SOUTH));
+		}
+		if (startSide.equals(Direction.WEST) || endSide.equals(Direction.WEST)) {
+			openings.add(new MazeOpening(random.nextInt(lastRow), lastColumn, Direction.EAST));
+		}
+
+		return openings;
+	}
+
+	int getRow() {
+		return row;
+	}
+
+	int getColumn() {
+		return column;
+	}
+
+	/**
+	 * @return - the wall of the cell that is opened
+	 */
+	Direction getWall() {
+		return wall;
+	}
+
+	/**
+	 * Same line as ImageRendererImpl.drawInteriorWall, it covers the wall between its corners
+	 *
+	 * @return - x1, y1, x2, y2 of the line painted over the wall in the background color
+	 */
+	int[] getLine(int cellSize, int mazeBorder, int wallThickness) {
+		int gridX = (column * (cellSize + wallThickness)) + mazeBorder;
+		int gridY = (row * (cellSize + wallThickness)) + mazeBorder;
+		int farX = gridX + cellSize + wallThickness;
+		int farY = gridY + cellSize + wallThickness;
+
+		switch (wall) {
+			case NORTH:
+				return new int[]{gridX + wallThickness, gridY, gridX + cellSize, gridY};
+			case SOUTH:
+				return new int[]{gridX + wallThickness, farY, gridX + cellSize, farY};
+			case WEST:
+				return new int[]{gridX, gridY + wallThickness, gridX, gridY + cellSize};
+			default:
+				return new int[]{farX, gridY + wallThickness, farX, gridY + cellSize};
+		}
+	}
+}
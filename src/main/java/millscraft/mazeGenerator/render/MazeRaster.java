@@ -0,0 +1,233 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+
+/**
+ * Rasterizes a maze with the same geometry as {@link ImageRendererImpl}, writing pixels
+ * straight into an int array instead of stroking every wall through Java2D.
+ * <p>
+ * Walls are axis aligned lines so a stroked wall always covers a rectangle of pixels.
+ * How far that rectangle reaches past the ends of the line depends on the stroke width
+ * and on Java2D's rasterizer, so it is measured once by stroking a line the same way
+ * {@link ImageRendererImpl} does. Filling the measured rectangles gives the same picture.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class MazeRaster {
+	private final int cellSize;
+	private final int mazeBorder;
+	private final int wallThickness;
+	private final int backgroundRGB;
+	private final int wallRGB;
+
+	//Pixels covered by a stroked line reach this far before its start and past its end, inclusive
+	private final int strokeBefore;
+	private final int strokeAfter;
+
+	MazeRaster(Integer cellSize, Integer mazeBorder, Integer wallThickness, Color backgroundColor, Color wallColor) {
+		//Same defaults as ImageRendererImpl
+		this.cellSize = cellSize != null ? cellSize : 15;
+		this.mazeBorder = mazeBorder != null ? mazeBorder : 15 * 2;
+		this.wallThickness = wallThickness != null ? wallThickness : 5;
+		this.backgroundRGB = (backgroundColor != null ? backgroundColor : Color.WHITE).getRGB();
+		this.wallRGB = (wallColor != null ? wallColor : Color.BLACK).getRGB();
+
+		int[] coverage = measureStroke(this.wallThickness);
+		this.strokeBefore = coverage[0];
+		this.strokeAfter = coverage[1];
+	}
+
+	int getImageWidth(Grid maze) {
+		return (mazeBorder * 2) + ((cellSize + wallThickness) * maze.getColumnSize()) + wallThickness;
+	}
+
+	int getImageHeight(Grid maze) {
+		return (mazeBorder * 2) + ((cellSize + wallThickness) * maze.getRowSize()) + wallThickness;
+	}
+
+	/**
+	 * @return - the image rows taken up by each row of cells
+	 */
+	int getRowHeight() {
+		return cellSize + wallThickness;
+	}
+
+	/**
+	 * @param strip      - a strip of maze rows
+	 * @param stripCount - number of equal strips the maze rows are split into
+	 * @return - the first image row of the strip
+	 */
+	int getRowTop(Grid maze, int strip, int stripCount) {
+		long row = (long) maze.getRowSize() * strip / stripCount;
+		return (int) (row * (cellSize + wallThickness)) + mazeBorder;
+	}
+
+	int getBackgroundRGB() {
+		return backgroundRGB;
+	}
+
+	int getWallRGB() {
+		return wallRGB;
+	}
+
+	/**
+	 * Picks the entrance and exit cells the same way {@link ImageRendererImpl} does
+	 *
+	 * @return - the lines to paint over the outer wall, four coordinates per line
+	 */
+	int[] chooseOpenings(Grid maze, Direction startSide, Direction endSide, RandomSource random) {
+		List<MazeOpening> openings = MazeOpening.choose(maze, startSide, endSide, random);
+		int[] lines = new int[openings.size() * 4];
+		for (int i = 0; i < openings.size(); i++) {
+			System.arraycopy(openings.get(i).getLine(cellSize, mazeBorder, wallThickness), 0, lines, i * 4, 4);
+		}
+		return lines;
+	}
+
+	/**
+	 * Paints the image rows from y0 up to y1 of the maze. Pixel (x, y) is stored at
+	 * offset + (y - y0) * scanlineStride + x.
+	 * <p>
+	 * Each scanline is built once from the walls crossing it. Most scanlines cross the
+	 * same walls as the one above them and are copied instead.
+	 *
+	 * @param openings - lines from {@link #chooseOpenings(Grid, Direction, Direction, RandomSource)}
+	 */
+	void paint(Grid maze, int[] openings, int[] pixels, int offset, int scanlineStride, int y0, int y1) {
+		int width = getImageWidth(maze);
+		int pitch = cellSize + wallThickness;
+		int previousStart = -1;
+		int previousFirstRow = 0;
+		int previousLastRow = 0;
+		int previousFirstLine = 0;
+		int previousLastLine = 0;
+
+		for (int y = y0; y < y1; y++) {
+			int rowStart = offset + (y - y0) * scanlineStride;
+
+			//Maze rows whose vertical walls cross this scanline
+			int firstRow = Math.max(0, Math.floorDiv(y - strokeAfter - mazeBorder - 1, pitch));
+			int lastRow = Math.min(maze.getRowSize() - 1, Math.floorDiv(y + strokeBefore - mazeBorder, pitch));
+			//Horizontal grid lines whose walls cross this scanline
+			int firstLine = Math.max(0, Math.floorDiv(y - strokeAfter - mazeBorder - 1, pitch) + 1);
+			int lastLine = Math.min(maze.getRowSize(), Math.floorDiv(y + strokeBefore - mazeBorder, pitch));
+
+			if (previousStart >= 0 && firstRow == previousFirstRow && lastRow == previousLastRow
+					&& firstLine == previousFirstLine && lastLine == previousLastLine) {
+				System.arraycopy(pixels, previousStart, pixels, rowStart, width);
+			} else {
+				paintScanline(maze, pixels, rowStart, width, firstRow, lastRow, firstLine, lastLine);
+			}
+
+			previousStart = rowStart;
+			previousFirstRow = firstRow;
+			previousLastRow = lastRow;
+			previousFirstLine = firstLine;
+			previousLastLine = lastLine;
+		}
+
+		//Entrance and exit are painted over the walls
+		for (int i = 0; i < openings.length; i += 4) {
+			fillLine(pixels, offset, scanlineStride, width, y0, y1, openings[i], openings[i + 1], openings[i + 2], openings[i + 3]);
+		}
+	}
+
+	private void paintScanline(Grid maze, int[] pixels, int rowStart, int width, int firstRow, int lastRow, int firstLine, int lastLine) {
+		int pitch = cellSize + wallThickness;
+		int columnSize = maze.getColumnSize();
+		Arrays.fill(pixels, rowStart, rowStart + width, backgroundRGB);
+
+		for (int row = firstRow; row <= lastRow; row++) {
+			//Left side vertical wall, then each cell's right side wall
+			fillSpan(pixels, rowStart, width, mazeBorder, mazeBorder);
+			int index = maze.indexOf(row, 0);
+			for (int column = 0; column < columnSize; column++, index++) {
+				if (!maze.isLinked(index, Direction.EAST)) {
+					int wallX = ((column + 1) * pitch) + mazeBorder;
+					fillSpan(pixels, rowStart, width, wallX, wallX);
+				}
+			}
+		}
+
+		for (int line = firstLine; line <= lastLine; line++) {
+			if (line == 0) {
+				//Top wall
+				fillSpan(pixels, rowStart, width, mazeBorder, (columnSize * pitch) + mazeBorder);
+				continue;
+			}
+
+			//Bottom walls of the row above the line, merged into runs
+			int index = maze.indexOf(line - 1, 0);
+			int runStart = -1;
+			for (int column = 0; column <= columnSize; column++, index++) {
+				boolean isWall = column < columnSize && !maze.isLinked(index, Direction.SOUTH);
+				if (isWall && runStart < 0) {
+					runStart = column;
+				} else if (!isWall && runStart >= 0) {
+					fillSpan(pixels, rowStart, width, (runStart * pitch) + mazeBorder, (column * pitch) + mazeBorder);
+					runStart = -1;
+				}
+			}
+		}
+	}
+
+	//Fills the pixels of one scanline covered by a stroke from x1 to x2
+	private void fillSpan(int[] pixels, int rowStart, int width, int x1, int x2) {
+		int left = Math.max(x1 - strokeBefore, 0);
+		int right = Math.min(x2 + strokeAfter + 1, width);
+		if (left < right) {
+			Arrays.fill(pixels, rowStart + left, rowStart + right, wallRGB);
+		}
+	}
+
+	//Fills the pixels a stroked horizontal or vertical line covers with the background
+	private void fillLine(int[] pixels, int offset, int scanlineStride, int width, int y0, int y1, int x1, int lineY1, int x2, int lineY2) {
+		int left = Math.max(Math.min(x1, x2) - strokeBefore, 0);
+		int right = Math.min(Math.max(x1, x2) + strokeAfter + 1, width);
+		int top = Math.max(Math.min(lineY1, lineY2) - strokeBefore, y0);
+		int bottom = Math.min(Math.max(lineY1, lineY2) + strokeAfter + 1, y1);
+
+		for (int y = top; y < bottom; y++) {
+			int rowStart = offset + (y - y0) * scanlineStride;
+			Arrays.fill(pixels, rowStart + left, rowStart + right, backgroundRGB);
+		}
+	}
+
+	//Strokes a line the way ImageRendererImpl does and measures how far past its ends it reaches
+	private static int[] measureStroke(int wallThickness) {
+		int margin = Math.abs(wallThickness) + 4;
+		int size = margin * 2 + 1;
+		BufferedImage image = new BufferedImage(size, size, TYPE_INT_ARGB);
+		Graphics2D graphics2D = image.createGraphics();
+		try {
+			graphics2D.setColor(Color.BLACK);
+			graphics2D.setStroke(new BasicStroke(wallThickness));
+			graphics2D.drawLine(margin, margin, margin, margin);
+		} finally {
+			graphics2D.dispose();
+		}
+
+		int first = size;
+		int last = -1;
+		for (int x = 0; x < size; x++) {
+			if (image.getRGB(x, margin) != 0) {
+				first = Math.min(first, x);
+				last = Math.max(last, x);
+			}
+		}
+		if (last < 0) {
+			return new int[]{0, -1};
+		}
+		return new int[]{margin - first, last - margin};
+	}
+}
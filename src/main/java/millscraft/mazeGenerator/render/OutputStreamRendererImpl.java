@@ -0,0 +1,61 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a maze as an indexed PNG to a caller supplied stream. The palette holds only
+ * the background and wall colors, so each pixel takes a single bit instead of the 32
+ * of an ARGB image. The image is encoded band by band like {@link StreamingPngRendererImpl}.
+ * <p>
+ * The stream is flushed but not closed.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class OutputStreamRendererImpl implements Renderer<OutputStream> {
+
+	private final MazeRaster raster;
+	private final OutputStream outputStream;
+
+	/**
+	 * Takes the same arguments and defaults as {@link ImageRendererImpl}, nulls use the default
+	 *
+	 * @param outputStream - stream every rendered maze is written to
+	 */
+	public OutputStreamRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor,
+			OutputStream outputStream
+	) {
+		if (outputStream == null) {
+			throw new IllegalArgumentException("Output stream cannot be null");
+		}
+		this.raster = new MazeRaster(cellSize, mazeBorder, wallThickness, backgroundColor, wallColor);
+		this.outputStream = outputStream;
+	}
+
+	@Override
+	public OutputStream render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		int[] openings = raster.chooseOpenings(maze, startSide, endSide, maze.getRandomSource());
+
+		try {
+			PngWriter.writeMaze(raster, maze, openings, outputStream, true);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Maze image could not be written", e);
+		}
+
+		return outputStream;
+	}
+}
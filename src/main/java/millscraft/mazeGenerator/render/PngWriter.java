@@ -0,0 +1,294 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Grid;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Encodes a PNG one scanline at a time, so an image never has to be held in memory
+ * as a whole. Scanlines are given as ARGB ints and written either as 8 bit RGBA or,
+ * when every pixel is one of a handful of colors, as palette indices of 1 or 2 bits.
+ * <p>
+ * Every scanline uses the Up filter. Most maze scanlines repeat the one above them,
+ * which filters to zeros and compresses to almost nothing.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+final class PngWriter {
+	private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+	private static final int COLOR_TYPE_RGBA = 6;
+	private static final int COLOR_TYPE_INDEXED = 3;
+	private static final int FILTER_UP = 2;
+	private static final int IDAT_SIZE = 64 * 1024;
+
+	private final OutputStream out;
+	private final int width;
+	private final int height;
+	//Null for RGBA images
+	private final int[] palette;
+	private final int bitDepth;
+	private final Deflater deflater;
+	private final DeflaterOutputStream imageData;
+	private final byte[] scanline;
+	private final byte[] previousScanline;
+	private final byte[] unfiltered;
+	private int scanlinesWritten = 0;
+
+	/**
+	 * Starts an 8 bit RGBA image
+	 *
+	 * @param out    - stream the PNG is written to, it is not closed when the image is finished
+	 * @param width  - image width in pixels
+	 * @param height - image height in pixels
+	 */
+	PngWriter(OutputStream out, int width, int height) throws IOException {
+		this(out, width, height, null);
+	}
+
+	/**
+	 * Starts an indexed image when a palette is given, every pixel written must be one
+	 * of its colors. Up to two colors take 1 bit per pixel, up to four take 2 bits.
+	 *
+	 * @param out     - stream the PNG is written to, it is not closed when the image is finished
+	 * @param width   - image width in pixels
+	 * @param height  - image height in pixels
+	 * @param palette - ARGB colors of the image, null for an RGBA image
+	 */
+	PngWriter(OutputStream out, int width, int height, int[] palette) throws IOException {
+		if (width < 1 || height < 1) {
+			throw new IllegalArgumentException("Image dimensions must be positive");
+		}
+		if (palette != null && (palette.length < 1 || palette.length > 4)) {
+			throw new IllegalArgumentException("Palette must have between 1 and 4 colors");
+		}
+		this.out = out;
+		this.width = width;
+		this.height = height;
+		this.palette = palette != null ? palette.clone() : null;
+		this.bitDepth = palette == null ? 8 : palette.length <= 2 ? 1 : 2;
+
+		int scanlineBytes = palette == null ? width * 4 : (int) (((long) width * bitDepth + 7) >>> 3);
+		this.scanline = new byte[1 + scanlineBytes];
+		this.previousScanline = new byte[scanlineBytes];
+		this.unfiltered = new byte[scanlineBytes];
+
+		out.write(SIGNATURE);
+		writeHeader();
+		if (palette != null) {
+			writePalette();
+		}
+
+		this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+		this.imageData = new DeflaterOutputStream(new ChunkOutputStream(out), deflater, IDAT_SIZE);
+	}
+
+	/**
+	 * Paints a maze band by band and encodes it, never holding more than one row of cells
+	 * worth of scanlines. An indexed image is written with the background and wall colors
+	 * as its palette.
+	 *
+	 * @param openings  - entrance and exit lines from {@link MazeRaster#chooseOpenings}
+	 * @param isIndexed - true for an indexed image, false for RGBA
+	 */
+	static void writeMaze(MazeRaster raster, Grid maze, int[] openings, OutputStream out, boolean isIndexed) throws IOException {
+		int imageWidth = raster.getImageWidth(maze);
+		int imageHeight = raster.getImageHeight(maze);
+		int bandHeight = raster.getRowHeight();
+		int[] band = new int[imageWidth * bandHeight];
+
+		int[] palette = null;
+		if (isIndexed) {
+			palette = raster.getBackgroundRGB() == raster.getWallRGB()
+					? new int[]{raster.getBackgroundRGB()}
+					: new int[]{raster.getBackgroundRGB(), raster.getWallRGB()};
+		}
+
+		PngWriter png = new PngWriter(out, imageWidth, imageHeight, palette);
+		for (int y0 = 0; y0 < imageHeight; y0 += bandHeight) {
+			int y1 = Math.min(y0 + bandHeight, imageHeight);
+			raster.paint(maze, openings, band, 0, imageWidth, y0, y1);
+			for (int y = y0; y < y1; y++) {
+				png.writeScanline(band, (y - y0) * imageWidth);
+			}
+		}
+		png.finish();
+	}
+
+	/**
+	 * @param pixels - ARGB pixels
+	 * @param offset - index of the scanline's first pixel
+	 */
+	void writeScanline(int[] pixels, int offset) throws IOException {
+		if (scanlinesWritten >= height) {
+			throw new IllegalStateException("All " + height + " scanlines have been written");
+		}
+
+		if (palette == null) {
+			packRGBA(pixels, offset);
+		} else {
+			packIndexed(pixels, offset);
+		}
+
+		scanline[0] = FILTER_UP;
+		for (int i = 0; i < unfiltered.length; i++) {
+			scanline[i + 1] = (byte) (unfiltered[i] - previousScanline[i]);
+		}
+		imageData.write(scanline);
+		System.arraycopy(unfiltered, 0, previousScanline, 0, unfiltered.length);
+		scanlinesWritten++;
+	}
+
+	/**
+	 * Writes the remaining image data and the end of the PNG
+	 */
+	void finish() throws IOException {
+		if (scanlinesWritten != height) {
+			throw new IllegalStateException("Only " + scanlinesWritten + " of " + height + " scanlines were written");
+		}
+		try {
+			imageData.finish();
+			imageData.flush();
+		} finally {
+			deflater.end();
+		}
+		writeChunk(out, "IEND", new byte[0], 0);
+		out.flush();
+	}
+
+	private void packRGBA(int[] pixels, int offset) {
+		for (int x = 0, i = 0; x < width; x++) {
+			int argb = pixels[offset + x];
+			unfiltered[i++] = (byte) (argb >>> 16);
+			unfiltered[i++] = (byte) (argb >>> 8);
+			unfiltered[i++] = (byte) argb;
+			unfiltered[i++] = (byte) (argb >>> 24);
+		}
+	}
+
+	//Pixels are packed from the high bits of each byte down
+	private void packIndexed(int[] pixels, int offset) {
+		int pixelsPerByte = 8 / bitDepth;
+		int packed = 0;
+		int i = 0;
+		for (int x = 0; x < width; x++) {
+			packed = (packed << bitDepth) | indexOf(pixels[offset + x]);
+			if ((x + 1) % pixelsPerByte == 0) {
+				unfiltered[i++] = (byte) packed;
+				packed = 0;
+			}
+		}
+		int leftover = width % pixelsPerByte;
+		if (leftover != 0) {
+			unfiltered[i] = (byte) (packed << (8 - leftover * bitDepth));
+		}
+	}
+
+	private int indexOf(int argb) {
+		for (int index = 0; index < palette.length; index++) {
+			if (palette[index] == argb) {
+				return index;
+			}
+		}
+		throw new IllegalArgumentException("Pixel color " + Integer.toHexString(argb) + " is not in the palette");
+	}
+
+	private void writeHeader() throws IOException {
+		ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+		DataOutputStream headerData = new DataOutputStream(header);
+		headerData.writeInt(width);
+		headerData.writeInt(height);
+		headerData.writeByte(bitDepth);
+		headerData.writeByte(palette == null ? COLOR_TYPE_RGBA : COLOR_TYPE_INDEXED);
+		//Deflate compression, adaptive filtering, no interlace
+		headerData.writeByte(0);
+		headerData.writeByte(0);
+		headerData.writeByte(0);
+		writeChunk(out, "IHDR", header.toByteArray(), header.size());
+	}
+
+	//Writes the colors and, if any color is translucent, their alpha values
+	private void writePalette() throws IOException {
+		byte[] colors = new byte[palette.length * 3];
+		byte[] alphas = new byte[palette.length];
+		boolean isTranslucent = false;
+		for (int index = 0; index < palette.length; index++) {
+			int argb = palette[index];
+			colors[index * 3] = (byte) (argb >>> 16);
+			colors[index * 3 + 1] = (byte) (argb >>> 8);
+			colors[index * 3 + 2] = (byte) argb;
+			alphas[index] = (byte) (argb >>> 24);
+			isTranslucent |= (argb >>> 24) != 0xFF;
+		}
+		writeChunk(out, "PLTE", colors, colors.length);
+		if (isTranslucent) {
+			writeChunk(out, "tRNS", alphas, alphas.length);
+		}
+	}
+
+	private static void writeChunk(OutputStream out, String type, byte[] data, int length) throws IOException {
+		byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, 0, length);
+
+		DataOutputStream chunk = new DataOutputStream(out);
+		chunk.writeInt(length);
+		chunk.write(typeBytes);
+		chunk.write(data, 0, length);
+		chunk.writeInt((int) crc.getValue());
+	}
+
+	//Collects compressed image data into IDAT chunks
+	private static final class ChunkOutputStream extends OutputStream {
+		private final OutputStream out;
+		private final byte[] buffer = new byte[IDAT_SIZE];
+		private int count = 0;
+
+		private ChunkOutputStream(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (count == buffer.length) {
+				flushChunk();
+			}
+			buffer[count++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			while (length > 0) {
+				if (count == buffer.length) {
+					flushChunk();
+				}
+				int copied = Math.min(length, buffer.length - count);
+				System.arraycopy(bytes, offset, buffer, count, copied);
+				count += copied;
+				offset += copied;
+				length -= copied;
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushChunk();
+			out.flush();
+		}
+
+		private void flushChunk() throws IOException {
+			if (count > 0) {
+				writeChunk(out, "IDAT", buffer, count);
+				count = 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+
+/**
+ * Renders the same picture as {@link ImageRendererImpl}, but writes the wall pixels
+ * straight into the image's backing int array instead of stroking each wall with
+ * Java2D. The image is returned rather than written to a file.
+ * <p>
+ * Given a {@link ForkJoinPool} the image is split into horizontal strips covering whole
+ * maze rows which are rasterized concurrently. Every scanline is computed on its own so
+ * the picture is the same either way.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class RasterRendererImpl implements Renderer<BufferedImage> {
+	//Strips per pool thread, more strips balance uneven work
+	private static final int STRIPS_PER_THREAD = 4;
+
+	private final MazeRaster raster;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Takes the same arguments and defaults as {@link ImageRendererImpl}, nulls use the default
+	 */
+	public RasterRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor
+	) {
+		this(cellSize, mazeBorder, wallThickness, backgroundColor, wallColor, null);
+	}
+
+	/**
+	 * @param pool - pool to rasterize strips of the image on, null to render on the calling thread
+	 */
+	public RasterRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor,
+			ForkJoinPool pool
+	) {
+		this.raster = new MazeRaster(cellSize, mazeBorder, wallThickness, backgroundColor, wallColor);
+		this.pool = pool;
+	}
+
+	@Override
+	public BufferedImage render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		int[] openings = raster.chooseOpenings(maze, startSide, endSide, maze.getRandomSource());
+
+		int imageWidth = raster.getImageWidth(maze);
+		int imageHeight = raster.getImageHeight(maze);
+		BufferedImage mazeImageBuffer = new BufferedImage(imageWidth, imageHeight, TYPE_INT_ARGB);
+		int[] pixels = ((DataBufferInt) mazeImageBuffer.getRaster().getDataBuffer()).getData();
+
+		if (pool == null) {
+			raster.paint(maze, openings, pixels, 0, imageWidth, 0, imageHeight);
+		} else {
+			int stripCount = Math.min(maze.getRowSize(), pool.getParallelism() * STRIPS_PER_THREAD);
+			pool.invoke(new StripTask(maze, openings, pixels, stripCount, 0, stripCount));
+		}
+
+		return mazeImageBuffer;
+	}
+
+	private class StripTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Grid maze;
+		private final int[] openings;
+		private final int[] pixels;
+		private final int stripCount;
+		private final int from;
+		private final int to;
+
+		private StripTask(Grid maze, int[] openings, int[] pixels, int stripCount, int from, int to) {
+			this.maze = maze;
+			this.openings = openings;
+			this.pixels = pixels;
+			this.stripCount = stripCount;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new StripTask(maze, openings, pixels, stripCount, from, middle),
+						new StripTask(maze, openings, pixels, stripCount, middle, to));
+				return;
+			}
+
+			//The first and last strips also cover the border around the maze
+			int imageWidth = raster.getImageWidth(maze);
+			int y0 = from == 0 ? 0 : raster.getRowTop(maze, from, stripCount);
+			int y1 = to == stripCount ? raster.getImageHeight(maze) : raster.getRowTop(maze, to, stripCount);
+			raster.paint(maze, openings, pixels, y0 * imageWidth, imageWidth, y0, y1);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.*;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes the same picture as {@link ImageRendererImpl} to a PNG file without ever
+ * building the whole image. The maze is rasterized one band of scanlines at a time,
+ * each as tall as a row of cells, and every scanline is handed straight to the PNG
+ * encoder. Memory use depends on the image width and cell size, not the maze height.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class StreamingPngRendererImpl implements Renderer<File> {
+
+	private static final Logger logger = LoggerFactory.getLogger(StreamingPngRendererImpl.class);
+	private final MazeRaster raster;
+	private File outputFile = new File("testMaze.png");
+
+	/**
+	 * Takes the same arguments and defaults as {@link ImageRendererImpl}, nulls use the default
+	 *
+	 * @param outputFile - file the PNG is written to, testMaze.png in the working directory by default
+	 */
+	public StreamingPngRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor,
+			File outputFile
+	) {
+		this.raster = new MazeRaster(cellSize, mazeBorder, wallThickness, backgroundColor, wallColor);
+		if (outputFile != null) {
+			this.outputFile = outputFile;
+		}
+	}
+
+	@Override
+	public File render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		int[] openings = raster.chooseOpenings(maze, startSide, endSide, maze.getRandomSource());
+
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFile))) {
+			PngWriter.writeMaze(raster, maze, openings, out, false);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Maze image could not be written to " + outputFile.getAbsolutePath(), e);
+		}
+		logger.info("Maze image written to file. Location " + outputFile.getAbsolutePath());
+
+		return outputFile;
+	}
+}
@@ -0,0 +1,163 @@
+package millscraft.mazeGenerator.render;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.awt.*;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Streams a maze to a writer as SVG with the same geometry as {@link ImageRendererImpl}.
+ * <p>
+ * Walls that continue in a straight line are merged into a single segment, one pass
+ * along every horizontal and every vertical grid line, and all segments share a single
+ * path. The SVG is written as the grid is scanned, nothing is buffered beyond the writer.
+ * The writer is flushed but not closed.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class SvgRendererImpl implements Renderer<Writer> {
+
+	private Integer cellSize = 15;
+	private Integer mazeBorder = cellSize * 2;
+	private Integer wallThickness = 5;
+	private Color backgroundColor = Color.WHITE;
+	private Color wallColor = Color.BLACK;
+	private final Writer writer;
+
+	/**
+	 * Takes the same arguments and defaults as {@link ImageRendererImpl}, nulls use the default
+	 *
+	 * @param writer - writer every rendered maze is written to
+	 */
+	public SvgRendererImpl(
+			Integer cellSize,
+			Integer mazeBorder,
+			Integer wallThickness,
+			Color backgroundColor,
+			Color wallColor,
+			Writer writer
+	) {
+		if (writer == null) {
+			throw new IllegalArgumentException("Writer cannot be null");
+		}
+		if (cellSize != null) {
+			this.cellSize = cellSize;
+		}
+		if (mazeBorder != null) {
+			this.mazeBorder = mazeBorder;
+		}
+		if (wallThickness != null) {
+			this.wallThickness = wallThickness;
+		}
+		if (backgroundColor != null) {
+			this.backgroundColor = backgroundColor;
+		}
+		if (wallColor != null) {
+			this.wallColor = wallColor;
+		}
+		this.writer = writer;
+	}
+
+	@Override
+	public Writer render(Grid maze, Direction startSide, Direction endSide) {
+		if (maze == null) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		List<MazeOpening> openings = MazeOpening.choose(maze, startSide, endSide, maze.getRandomSource());
+
+		try {
+			BufferedWriter out = new BufferedWriter(writer);
+			writeSvg(maze, openings, out);
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Maze SVG could not be written", e);
+		}
+
+		return writer;
+	}
+
+	private void writeSvg(Grid maze, List<MazeOpening> openings, Writer out) throws IOException {
+		int pitch = cellSize + wallThickness;
+		int imageWidth = (mazeBorder * 2) + (pitch * maze.getColumnSize()) + wallThickness;
+		int imageHeight = (mazeBorder * 2) + (pitch * maze.getRowSize()) + wallThickness;
+
+		out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + imageWidth + "\" height=\"" + imageHeight
+				+ "\" viewBox=\"0 0 " + imageWidth + " " + imageHeight + "\">\n");
+		out.write("<rect width=\"100%\" height=\"100%\"" + paint("fill", backgroundColor) + "/>\n");
+
+		out.write("<path" + stroke(wallColor) + " d=\"");
+		//Top wall, then the bottom walls of each row
+		writeRun(out, true, 0, 0, maze.getColumnSize());
+		for (int line = 1; line <= maze.getRowSize(); line++) {
+			int index = maze.indexOf(line - 1, 0);
+			int runStart = -1;
+			for (int column = 0; column <= maze.getColumnSize(); column++, index++) {
+				boolean isWall = column < maze.getColumnSize() && !maze.isLinked(index, Direction.SOUTH);
+				if (isWall && runStart < 0) {
+					runStart = column;
+				} else if (!isWall && runStart >= 0) {
+					writeRun(out, true, line, runStart, column);
+					runStart = -1;
+				}
+			}
+		}
+		//Left wall, then the right walls of each column
+		writeRun(out, false, 0, 0, maze.getRowSize());
+		for (int line = 1; line <= maze.getColumnSize(); line++) {
+			int runStart = -1;
+			for (int row = 0; row <= maze.getRowSize(); row++) {
+				boolean isWall = row < maze.getRowSize() && !maze.isLinked(maze.indexOf(row, line - 1), Direction.EAST);
+				if (isWall && runStart < 0) {
+					runStart = row;
+				} else if (!isWall && runStart >= 0) {
+					writeRun(out, false, line, runStart, row);
+					runStart = -1;
+				}
+			}
+		}
+		out.write("\"/>\n");
+
+		//Entrance and exit are painted over the walls
+		if (!openings.isEmpty()) {
+			out.write("<path" + stroke(backgroundColor) + " d=\"");
+			for (MazeOpening opening : openings) {
+				int[] line = opening.getLine(cellSize, mazeBorder, wallThickness);
+				out.write("M" + line[0] + " " + line[1] + "L" + line[2] + " " + line[3]);
+			}
+			out.write("\"/>\n");
+		}
+		out.write("</svg>\n");
+	}
+
+	//Writes a wall along a grid line covering the cells from start up to end
+	private void writeRun(Writer out, boolean isHorizontal, int line, int start, int end) throws IOException {
+		int pitch = cellSize + wallThickness;
+		int lineOffset = (line * pitch) + mazeBorder;
+		int from = (start * pitch) + mazeBorder;
+		int to = (end * pitch) + mazeBorder;
+		if (isHorizontal) {
+			out.write("M" + from + " " + lineOffset + "H" + to);
+		} else {
+			out.write("M" + lineOffset + " " + from + "V" + to);
+		}
+	}
+
+	//Square caps like the BasicStroke ImageRendererImpl draws with, which draws a zero width one pixel wide
+	private String stroke(Color color) {
+		return " fill=\"none\"" + paint("stroke", color) + " stroke-width=\"" + Math.max(wallThickness, 1) + "\" stroke-linecap=\"square\"";
+	}
+
+	private static String paint(String attribute, Color color) {
+		String paint = " " + attribute + "=\"#" + String.format("%06x", color.getRGB() & 0xFFFFFF) + "\"";
+		if (color.getAlpha() != 255) {
+			paint += " " + attribute + "-opacity=\"" + (color.getAlpha() / 255f) + "\"";
+		}
+		return paint;
+	}
+}
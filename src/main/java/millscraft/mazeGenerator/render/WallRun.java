@@ -0,0 +1,88 @@
+package millscraft.mazeGenerator.render;
+
+/**
+ * A straight run of wall blocks in a {@link BlockPlan}, a box of blocks one wall wide
+ * starting at its origin and reaching along its axis. X grows with the maze's columns
+ * and Z with its rows, runs carry no height so walls can be raised to any.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class WallRun {
+
+	public enum Axis {
+		/**
+		 * Along a row, from west to east
+		 */
+		X,
+		/**
+		 * Along a column, from north to south
+		 */
+		Z
+	}
+
+	private final int x;
+	private final int z;
+	private final int length;
+	private final int width;
+	private final Axis axis;
+
+	WallRun(int x, int z, int length, int width, Axis axis) {
+		this.x = x;
+		this.z = z;
+		this.length = length;
+		this.width = width;
+		this.axis = axis;
+	}
+
+	/**
+	 * @return - block x of the run's north west corner
+	 */
+	public int getX() {
+		return x;
+	}
+
+	/**
+	 * @return - block z of the run's north west corner
+	 */
+	public int getZ() {
+		return z;
+	}
+
+	/**
+	 * @return - blocks along the axis
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * @return - blocks across the axis, the plan's wall width
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	public Axis getAxis() {
+		return axis;
+	}
+
+	/**
+	 * @return - block x of the run's south east corner, inclusive
+	 */
+	public int getMaxX() {
+		return x + (axis == Axis.X ? length : width) - 1;
+	}
+
+	/**
+	 * @return - block z of the run's south east corner, inclusive
+	 */
+	public int getMaxZ() {
+		return z + (axis == Axis.Z ? length : width) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "WallRun{x=" + x + ", z=" + z + ", length=" + length + ", width=" + width + ", axis=" + axis + "}";
+	}
+}
@@ -0,0 +1,218 @@
+package millscraft.mazeGenerator.solver;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+/**
+ * Answers distance queries between any two cells of a perfect maze in constant time.
+ * <p>
+ * A perfect maze is a spanning tree, so the path between two cells runs through their
+ * lowest common ancestor once the tree is rooted. The index roots the maze at cell 0
+ * and lists the cells in depth first preorder. The common ancestor of two cells is the
+ * parent of the shallowest cell listed after the first of them, up to and including the
+ * second. That range minimum is found in constant time from a sparse table over blocks
+ * of 64 positions plus a bitmask per position for ranges inside a block.
+ * <p>
+ * Building takes linear time and about 28 bytes per cell. The index is a snapshot, it
+ * does not change when the maze does.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class DistanceIndex {
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static final int BLOCK_BITS = 6;
+	private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+
+	private final Grid maze;
+	//Per cell, indexed like the grid
+	private final int[] parents;
+	private final int[] depths;
+	private final int[] preorderPositions;
+	//Per preorder position
+	private final int[] preorderDepths;
+	private final int[] preorderParents;
+	//Bit i of a position's mask is set when position i of its block is the minimum from i up to the position
+	private final long[] blockMasks;
+	//Position of the minimum over 2^level blocks starting at each block
+	private final int[][] blockTable;
+
+	/**
+	 * @param maze - a perfect maze, every cell connected to every other by exactly one path
+	 * @throws IllegalArgumentException - if the maze has a loop or a cell that cannot be reached
+	 */
+	public DistanceIndex(Grid maze) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		this.maze = maze;
+		int size = maze.getSize();
+		this.parents = new int[size];
+		this.depths = new int[size];
+		this.preorderPositions = new int[size];
+		this.preorderDepths = new int[size];
+		this.preorderParents = new int[size];
+		this.blockMasks = new long[size];
+
+		traverse();
+		buildBlockMasks();
+		this.blockTable = buildBlockTable();
+	}
+
+	//Roots the tree at cell 0 and numbers the cells in preorder
+	private void traverse() {
+		int size = maze.getSize();
+		boolean[] isDiscovered = new boolean[size];
+		int[] stack = new int[size];
+		int stackSize = 0;
+		int position = 0;
+
+		parents[0] = Grid.NO_CELL;
+		isDiscovered[0] = true;
+		stack[stackSize++] = 0;
+		while (stackSize > 0) {
+			int cell = stack[--stackSize];
+			preorderPositions[cell] = position;
+			preorderDepths[position] = depths[cell];
+			preorderParents[position] = parents[cell];
+			position++;
+
+			for (Direction direction : DIRECTIONS) {
+				if (maze.isLinked(cell, direction)) {
+					int neighbor = maze.getNeighbor(cell, direction);
+					if (neighbor == parents[cell]) {
+						continue;
+					}
+					if (isDiscovered[neighbor]) {
+						throw new IllegalArgumentException("Maze is not perfect, it has a loop through row:"
+								+ maze.rowOf(neighbor) + " col:" + maze.columnOf(neighbor));
+					}
+					isDiscovered[neighbor] = true;
+					parents[neighbor] = cell;
+					depths[neighbor] = depths[cell] + 1;
+					stack[stackSize++] = neighbor;
+				}
+			}
+		}
+
+		if (position != size) {
+			throw new IllegalArgumentException("Maze is not perfect, " + (size - position) + " cells cannot be reached");
+		}
+	}
+
+	//Keeps a stack of positions with increasing depths through each block, as a bitmask
+	private void buildBlockMasks() {
+		int[] stack = new int[BLOCK_SIZE];
+		for (int blockStart = 0; blockStart < preorderDepths.length; blockStart += BLOCK_SIZE) {
+			int blockEnd = Math.min(blockStart + BLOCK_SIZE, preorderDepths.length);
+			int stackSize = 0;
+			long mask = 0;
+			for (int position = blockStart; position < blockEnd; position++) {
+				while (stackSize > 0 && preorderDepths[stack[stackSize - 1]] >= preorderDepths[position]) {
+					mask &= ~(1L << stack[--stackSize]);
+				}
+				stack[stackSize++] = position;
+				mask |= 1L << position;
+				blockMasks[position] = mask;
+			}
+		}
+	}
+
+	private int[][] buildBlockTable() {
+		int blockCount = ((preorderDepths.length - 1) >>> BLOCK_BITS) + 1;
+		int levels = 32 - Integer.numberOfLeadingZeros(blockCount);
+		int[][] table = new int[levels][];
+
+		table[0] = new int[blockCount];
+		for (int block = 0; block < blockCount; block++) {
+			int blockStart = block << BLOCK_BITS;
+			int blockEnd = Math.min(blockStart + BLOCK_SIZE, preorderDepths.length) - 1;
+			table[0][block] = minimumInBlock(blockStart, blockEnd);
+		}
+		for (int level = 1; level < levels; level++) {
+			int span = 1 << (level - 1);
+			table[level] = new int[blockCount - (1 << level) + 1];
+			for (int block = 0; block < table[level].length; block++) {
+				table[level][block] = shallower(table[level - 1][block], table[level - 1][block + span]);
+			}
+		}
+		return table;
+	}
+
+	public Grid getMaze() {
+		return maze;
+	}
+
+	/**
+	 * @param from - index of a cell
+	 * @param to   - index of a cell
+	 * @return - the number of passages on the path between the cells
+	 */
+	public int getDistance(int from, int to) {
+		return depths[from] + depths[to] - 2 * depths[getCommonAncestor(from, to)];
+	}
+
+	/**
+	 * @param from - index of a cell
+	 * @param to   - index of a cell
+	 * @return - index of the cell where the paths from cell 0 to the two cells part
+	 */
+	public int getCommonAncestor(int from, int to) {
+		if (from == to) {
+			return from;
+		}
+		int first = Math.min(preorderPositions[from], preorderPositions[to]);
+		int last = Math.max(preorderPositions[from], preorderPositions[to]);
+		return preorderParents[minimum(first + 1, last)];
+	}
+
+	/**
+	 * Returns the path between two cells in time proportional to its length
+	 *
+	 * @param from - index of the first cell
+	 * @param to   - index of the last cell
+	 * @return - cell indices from the first cell to the last
+	 */
+	public int[] getPath(int from, int to) {
+		int ancestor = getCommonAncestor(from, to);
+		int[] path = new int[depths[from] + depths[to] - 2 * depths[ancestor] + 1];
+
+		//Up from the first cell, then up from the last cell filled in from the end
+		int step = 0;
+		for (int cell = from; cell != ancestor; cell = parents[cell]) {
+			path[step++] = cell;
+		}
+		path[step] = ancestor;
+		step = path.length - 1;
+		for (int cell = to; cell != ancestor; cell = parents[cell]) {
+			path[step--] = cell;
+		}
+		return path;
+	}
+
+	//Position of the shallowest cell from first to last, inclusive
+	private int minimum(int first, int last) {
+		int firstBlock = first >>> BLOCK_BITS;
+		int lastBlock = last >>> BLOCK_BITS;
+		if (firstBlock == lastBlock) {
+			return minimumInBlock(first, last);
+		}
+
+		int best = shallower(minimumInBlock(first, (firstBlock << BLOCK_BITS) + BLOCK_SIZE - 1),
+				minimumInBlock(lastBlock << BLOCK_BITS, last));
+		if (lastBlock - firstBlock > 1) {
+			int level = 31 - Integer.numberOfLeadingZeros(lastBlock - firstBlock - 1);
+			best = shallower(best, shallower(blockTable[level][firstBlock + 1], blockTable[level][lastBlock - (1 << level)]));
+		}
+		return best;
+	}
+
+	private int minimumInBlock(int first, int last) {
+		long mask = blockMasks[last] & (-1L << first);
+		return (last & -BLOCK_SIZE) + Long.numberOfTrailingZeros(mask);
+	}
+
+	private int shallower(int position, int otherPosition) {
+		return preorderDepths[otherPosition] < preorderDepths[position] ? otherPosition : position;
+	}
+}
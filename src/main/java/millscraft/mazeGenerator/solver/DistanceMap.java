@@ -0,0 +1,134 @@
+package millscraft.mazeGenerator.solver;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+import java.util.Arrays;
+
+/**
+ * Breadth first distances from one root cell to every cell of a maze, counted in
+ * passages. Distances are kept in an int array indexed like the grid and the search
+ * runs over an int array queue, so no cells are created.
+ * <p>
+ * The map is a snapshot, it does not change when the maze does.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class DistanceMap {
+	/**
+	 * Distance of a cell that cannot be reached from the root
+	 */
+	public static final int UNREACHABLE = -1;
+
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final Grid maze;
+	private final int root;
+	private final int[] distances;
+	private final int farthestCell;
+	private final int reachableCount;
+
+	/**
+	 * @param maze - a maze
+	 * @param root - index of the cell distances are measured from
+	 */
+	public DistanceMap(Grid maze, int root) {
+		if (null == maze) {
+			throw new IllegalArgumentException("Maze grid cannot be null");
+		}
+		if (root < 0 || root >= maze.getSize()) {
+			throw new IndexOutOfBoundsException("No cell at index:" + root);
+		}
+		this.maze = maze;
+		this.root = root;
+		this.distances = new int[maze.getSize()];
+		Arrays.fill(distances, UNREACHABLE);
+
+		//Cells are queued in order of distance, the last one queued is the farthest
+		int[] queue = new int[maze.getSize()];
+		int head = 0;
+		int tail = 0;
+		distances[root] = 0;
+		queue[tail++] = root;
+		while (head < tail) {
+			int cell = queue[head++];
+			int nextDistance = distances[cell] + 1;
+			for (Direction direction : DIRECTIONS) {
+				if (maze.isLinked(cell, direction)) {
+					int neighbor = maze.getNeighbor(cell, direction);
+					if (distances[neighbor] == UNREACHABLE) {
+						distances[neighbor] = nextDistance;
+						queue[tail++] = neighbor;
+					}
+				}
+			}
+		}
+		this.farthestCell = queue[tail - 1];
+		this.reachableCount = tail;
+	}
+
+	public Grid getMaze() {
+		return maze;
+	}
+
+	public int getRoot() {
+		return root;
+	}
+
+	/**
+	 * @param index - index of a cell
+	 * @return - passages between the root and the cell, or {@link #UNREACHABLE}
+	 */
+	public int getDistance(int index) {
+		return distances[index];
+	}
+
+	/**
+	 * @return - index of a cell as far from the root as any other
+	 */
+	public int getFarthestCell() {
+		return farthestCell;
+	}
+
+	public int getMaxDistance() {
+		return distances[farthestCell];
+	}
+
+	/**
+	 * @return - the number of cells connected to the root, including the root
+	 */
+	public int getReachableCount() {
+		return reachableCount;
+	}
+
+	/**
+	 * Returns a shortest path from the root to a cell by stepping back through
+	 * neighbors one passage closer to the root
+	 *
+	 * @param target - index of a cell
+	 * @return - cell indices from the root to the target, empty if the target is unreachable
+	 */
+	public int[] getPathTo(int target) {
+		if (distances[target] == UNREACHABLE) {
+			return new int[0];
+		}
+
+		int[] path = new int[distances[target] + 1];
+		int cell = target;
+		for (int step = path.length - 1; step > 0; step--) {
+			path[step] = cell;
+			for (Direction direction : DIRECTIONS) {
+				if (maze.isLinked(cell, direction)) {
+					int neighbor = maze.getNeighbor(cell, direction);
+					if (distances[neighbor] == step - 1) {
+						cell = neighbor;
+						break;
+					}
+				}
+			}
+		}
+		path[0] = root;
+		return path;
+	}
+}
@@ -0,0 +1,50 @@
+package millscraft.mazeGenerator.solver;
+
+import millscraft.mazeGenerator.Grid;
+
+/**
+ * Path queries over a maze built on {@link DistanceMap}. Each query runs one breadth
+ * first search, or two for the longest path, in time linear in the number of cells.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class MazeSolver {
+
+	private MazeSolver() {
+	}
+
+	/**
+	 * @param maze - a maze
+	 * @param from - index of the first cell
+	 * @param to   - index of the last cell
+	 * @return - cell indices of a shortest path between the cells, empty if they are not connected
+	 */
+	public static int[] shortestPath(Grid maze, int from, int to) {
+		return new DistanceMap(maze, from).getPathTo(to);
+	}
+
+	/**
+	 * @param maze - a maze
+	 * @param from - index of a cell
+	 * @return - index of a cell as far from the given cell as any other
+	 */
+	public static int farthestCell(Grid maze, int from) {
+		return new DistanceMap(maze, from).getFarthestCell();
+	}
+
+	/**
+	 * Finds the longest path in a maze, its diameter, by searching from the cell farthest
+	 * from cell 0. The path is exact for perfect mazes, which are trees. Mazes with loops
+	 * get a long path but not necessarily the longest. Only the cells connected to cell 0
+	 * are searched.
+	 *
+	 * @param maze - a maze
+	 * @return - cell indices from one end of the path to the other
+	 */
+	public static int[] longestPath(Grid maze) {
+		DistanceMap fromStart = new DistanceMap(maze, 0);
+		DistanceMap fromEnd = new DistanceMap(maze, fromStart.getFarthestCell());
+		return fromEnd.getPathTo(fromEnd.getFarthestCell());
+	}
+}
@@ -0,0 +1,69 @@
+package millscraft.mazeGenerator.tile;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+
+/**
+ * A square piece of a {@link TiledMaze}. The grid holds the tile's own passages,
+ * passages across the tile's borders are kept as openings, at most one per side.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class MazeTile {
+	/**
+	 * Offset returned for a side without an opening
+	 */
+	public static final int NO_OPENING = -1;
+
+	private final TileKey key;
+	private final Grid grid;
+	//Offset along each side, by Direction ordinal
+	private final int[] openings;
+
+	MazeTile(TileKey key, Grid grid, int[] openings) {
+		this.key = key;
+		this.grid = grid;
+		this.openings = openings;
+	}
+
+	public TileKey getKey() {
+		return key;
+	}
+
+	public Grid getGrid() {
+		return grid;
+	}
+
+	/**
+	 * @param side - a side of the tile
+	 * @return - the column of the opening on the northern or southern side, the row on the
+	 * eastern or western side, or {@link #NO_OPENING}
+	 */
+	public int getOpening(Direction side) {
+		return openings[side.ordinal()];
+	}
+
+	/**
+	 * @param row       - a row of the tile
+	 * @param column    - a column of the tile
+	 * @param direction - direction of the passage
+	 * @return - true if the cell has a passage in the given direction, including passages
+	 * into neighboring tiles
+	 */
+	public boolean isLinked(int row, int column, Direction direction) {
+		int index = grid.indexOf(row, column);
+		if (grid.getNeighbor(index, direction) != Grid.NO_CELL) {
+			return grid.isLinked(index, direction);
+		}
+
+		int opening = getOpening(direction);
+		switch (direction) {
+			case NORTH:
+			case SOUTH:
+				return opening == column;
+			default:
+				return opening == row;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package millscraft.mazeGenerator.tile;
+
+/**
+ * Coordinates of a tile in a {@link TiledMaze}. Tile (0, 0) covers the cells from
+ * row 0 and column 0 up to the tile size, rows grow to the south and columns to the east.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public final class TileKey {
+	private final long tileRow;
+	private final long tileColumn;
+
+	public TileKey(long tileRow, long tileColumn) {
+		this.tileRow = tileRow;
+		this.tileColumn = tileColumn;
+	}
+
+	public long getTileRow() {
+		return tileRow;
+	}
+
+	public long getTileColumn() {
+		return tileColumn;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TileKey)) {
+			return false;
+		}
+		TileKey tileKey = (TileKey) o;
+		return tileRow == tileKey.tileRow && tileColumn == tileKey.tileColumn;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(tileRow * 31 + tileColumn);
+	}
+
+	@Override
+	public String toString() {
+		return "TileKey{row=" + tileRow + ", column=" + tileColumn + "}";
+	}
+}
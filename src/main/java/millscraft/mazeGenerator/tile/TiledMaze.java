@@ -0,0 +1,194 @@
+package millscraft.mazeGenerator.tile;
+
+import millscraft.mazeGenerator.Direction;
+import millscraft.mazeGenerator.Grid;
+import millscraft.mazeGenerator.generator.GeneratorAlgorithm;
+import millscraft.mazeGenerator.generator.Wilson;
+import millscraft.mazeGenerator.random.RandomSource;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A maze without edges, made of square tiles that are generated when they are first
+ * needed. A tile only depends on the maze seed and its own coordinates, so tiles can be
+ * evicted and generated again at will. The most recently used tiles are cached.
+ * <p>
+ * Each tile is a perfect maze of its own. Tiles are joined by single openings along a
+ * spanning tree of tiles in which every tile connects to one neighbor closer to tile
+ * (0, 0), so the maze as a whole stays perfect as long as the algorithm produces
+ * perfect tiles.
+ *
+ * @author Grant Mills
+ * @since 10/18/26
+ */
+public class TiledMaze {
+	private static final long TILE_SALT = 0x5851f42d4c957f2dL;
+	private static final long PARENT_SALT = 0x14057b7ef767814fL;
+	private static final long OPENING_SALT = 0x2545f4914f6cdd1dL;
+	private static final int DEFAULT_CACHE_SIZE = 256;
+
+	private final int tileSize;
+	private final long seed;
+	private final GeneratorAlgorithm algorithm;
+	private final Map<TileKey, MazeTile> cache;
+
+	/**
+	 * Tiles are generated with Wilson's algorithm and up to 256 are cached
+	 *
+	 * @param tileSize - width and height of a tile in cells
+	 * @param seed     - seed of the whole maze
+	 */
+	public TiledMaze(int tileSize, long seed) {
+		this(tileSize, seed, new Wilson(), DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * @param tileSize  - width and height of a tile in cells
+	 * @param seed      - seed of the whole maze
+	 * @param algorithm - algorithm generating each tile, must produce perfect mazes
+	 * @param cacheSize - most tiles kept in memory
+	 */
+	public TiledMaze(int tileSize, long seed, GeneratorAlgorithm algorithm, int cacheSize) {
+		if (tileSize < 1) {
+			throw new IllegalArgumentException("Tile size must be positive");
+		}
+		if (null == algorithm) {
+			throw new IllegalArgumentException("Generator algorithm cannot be null");
+		}
+		if (cacheSize < 1) {
+			throw new IllegalArgumentException("Cache size must be positive");
+		}
+		this.tileSize = tileSize;
+		this.seed = seed;
+		this.algorithm = algorithm;
+		this.cache = new LinkedHashMap<TileKey, MazeTile>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TileKey, MazeTile> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns a tile, from the cache when possible
+	 *
+	 * @param tileRow    - row of the tile
+	 * @param tileColumn - column of the tile
+	 * @return - {@link MazeTile}
+	 */
+	public MazeTile getTile(long tileRow, long tileColumn) {
+		TileKey key = new TileKey(tileRow, tileColumn);
+		MazeTile tile;
+		synchronized (cache) {
+			tile = cache.get(key);
+		}
+		if (tile != null) {
+			return tile;
+		}
+
+		//Generated outside the lock, a tile generated twice is the same tile
+		MazeTile generated = generateTile(key);
+		synchronized (cache) {
+			tile = cache.get(key);
+			if (tile == null) {
+				cache.put(key, generated);
+				tile = generated;
+			}
+		}
+		return tile;
+	}
+
+	/**
+	 * Returns the tile holding a cell
+	 *
+	 * @param row    - a row of the maze
+	 * @param column - a column of the maze
+	 * @return - {@link MazeTile}
+	 */
+	public MazeTile getTileAt(long row, long column) {
+		return getTile(Math.floorDiv(row, tileSize), Math.floorDiv(column, tileSize));
+	}
+
+	/**
+	 * @param row       - a row of the maze
+	 * @param column    - a column of the maze
+	 * @param direction - direction of the passage
+	 * @return - true if the cell has a passage in the given direction
+	 */
+	public boolean isLinked(long row, long column, Direction direction) {
+		MazeTile tile = getTileAt(row, column);
+		return tile.isLinked((int) Math.floorMod(row, (long) tileSize), (int) Math.floorMod(column, (long) tileSize), direction);
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public int getCachedTileCount() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	private MazeTile generateTile(TileKey key) {
+		long tileRow = key.getTileRow();
+		long tileColumn = key.getTileColumn();
+
+		Grid grid = new Grid(tileSize, tileSize, RandomSource.seeded(hash(TILE_SALT, tileRow, tileColumn)));
+		algorithm.prepareMaze(grid);
+
+		int[] openings = new int[Direction.values().length];
+		Arrays.fill(openings, MazeTile.NO_OPENING);
+		for (Direction side : Direction.values()) {
+			long neighborRow = tileRow + rowStep(side);
+			long neighborColumn = tileColumn + columnStep(side);
+			if (getParent(tileRow, tileColumn) == side || getParent(neighborRow, neighborColumn) == side.getOpposite()) {
+				openings[side.ordinal()] = getOpeningOffset(tileRow, tileColumn, side);
+			}
+		}
+
+		return new MazeTile(key, grid, openings);
+	}
+
+	//Side of the tile that leads one step closer to tile (0, 0), null for tile (0, 0) itself
+	private Direction getParent(long tileRow, long tileColumn) {
+		Direction vertical = tileRow > 0 ? Direction.NORTH : Direction.SOUTH;
+		Direction horizontal = tileColumn > 0 ? Direction.WEST : Direction.EAST;
+		if (tileRow == 0 && tileColumn == 0) {
+			return null;
+		} else if (tileRow == 0) {
+			return horizontal;
+		} else if (tileColumn == 0) {
+			return vertical;
+		}
+		return hash(PARENT_SALT, tileRow, tileColumn) < 0 ? vertical : horizontal;
+	}
+
+	//Both tiles sharing a border name it from the northern or western tile, so they agree on the offset
+	private int getOpeningOffset(long tileRow, long tileColumn, Direction side) {
+		long edgeRow = side == Direction.NORTH ? tileRow - 1 : tileRow;
+		long edgeColumn = side == Direction.WEST ? tileColumn - 1 : tileColumn;
+		boolean isVertical = side == Direction.NORTH || side == Direction.SOUTH;
+		long salt = isVertical ? OPENING_SALT : ~OPENING_SALT;
+		return (int) Math.floorMod(hash(salt, edgeRow, edgeColumn), (long) tileSize);
+	}
+
+	private long hash(long salt, long tileRow, long tileColumn) {
+		RandomSource random = RandomSource.seeded(seed ^ salt);
+		return RandomSource.seeded(random.nextLong() ^ tileRow * 0x9e3779b97f4a7c15L ^ tileColumn * 0xc2b2ae3d27d4eb4fL).nextLong();
+	}
+
+	private static int rowStep(Direction direction) {
+		return direction == Direction.NORTH ? -1 : direction == Direction.SOUTH ? 1 : 0;
+	}
+
+	private static int columnStep(Direction direction) {
+		return direction == Direction.WEST ? -1 : direction == Direction.EAST ? 1 : 0;
+	}
+}